@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# Cold/warm start benchmark built on the startup profiler (-DtypeTuto.startupProfile).
+#
+# Usage: scripts/startup-bench.sh [runs] [jar]
+#   runs  launches per mode (default 10)
+#   jar   application jar (default target/typeTuto-1.0.jar)
+# Extra JVM flags can be passed in JAVA_OPTS.
+#
+# "cold" drops the OS page cache before every launch (needs root; otherwise the run is
+# reported as skipped). "warm" launches back to back after one discarded run.
+# Each launch quits after its first paint; per-phase medians are printed per mode and the
+# raw rows are kept in target/startup-bench/<mode>.csv. Needs a display (or xvfb-run).
+set -euo pipefail
+
+RUNS="${1:-10}"
+JAR="${2:-target/typeTuto-1.0.jar}"
+OUT_DIR="target/startup-bench"
+JAVA_OPTS="${JAVA_OPTS:-}"
+
+if [[ ! -f "$JAR" ]]; then
+    echo "Jar not found: $JAR (run mvn package first)" >&2
+    exit 1
+fi
+
+LAUNCHER=()
+if [[ -z "${DISPLAY:-}" && "$(uname)" == "Linux" ]]; then
+    if command -v xvfb-run >/dev/null; then
+        LAUNCHER=(xvfb-run -a)
+    else
+        echo "No DISPLAY and no xvfb-run; cannot open the main window." >&2
+        exit 1
+    fi
+fi
+
+mkdir -p "$OUT_DIR"
+
+launch() {
+    local csv="$1"
+    # shellcheck disable=SC2086
+    ${LAUNCHER[@]+"${LAUNCHER[@]}"} java $JAVA_OPTS \
+        -DtypeTuto.startupProfile="$csv" \
+        -DtypeTuto.startupProfile.exit=true \
+        -DtypeTuto.dialogWarmup=false \
+        -jar "$JAR" >/dev/null
+}
+
+drop_caches() {
+    sync && echo 3 > /proc/sys/vm/drop_caches
+}
+
+summarize() {
+    local mode="$1" csv="$2"
+    echo "== $mode: median of $RUNS launches (ms) =="
+    awk -F, '
+        NR == 1 { for (i = 2; i <= NF; i++) name[i] = $i; cols = NF; next }
+        { n++; for (i = 2; i <= NF; i++) value[i, n] = $i }
+        END {
+            for (i = 2; i <= cols; i++) {
+                for (j = 1; j <= n; j++) sorted[j] = value[i, j]
+                # insertion sort; run counts are small
+                for (j = 2; j <= n; j++) {
+                    v = sorted[j]; k = j - 1
+                    while (k > 0 && sorted[k] + 0 > v + 0) { sorted[k + 1] = sorted[k]; k-- }
+                    sorted[k + 1] = v
+                }
+                median = n % 2 ? sorted[(n + 1) / 2] : (sorted[n / 2] + sorted[n / 2 + 1]) / 2
+                printf "  %-18s %8.1f\n", name[i], median
+            }
+        }' "$csv"
+}
+
+# Cold starts.
+COLD_CSV="$OUT_DIR/cold.csv"
+rm -f "$COLD_CSV"
+if [[ -w /proc/sys/vm/drop_caches ]]; then
+    for ((i = 0; i < RUNS; i++)); do
+        drop_caches
+        launch "$COLD_CSV"
+    done
+    summarize cold "$COLD_CSV"
+else
+    echo "== cold: skipped (dropping the page cache needs root) =="
+fi
+
+# Warm starts.
+WARM_CSV="$OUT_DIR/warm.csv"
+rm -f "$WARM_CSV"
+launch "$OUT_DIR/discard.csv"
+rm -f "$OUT_DIR/discard.csv"
+for ((i = 0; i < RUNS; i++)); do
+    launch "$WARM_CSV"
+done
+summarize warm "$WARM_CSV"
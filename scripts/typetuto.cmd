@@ -0,0 +1,20 @@
+@echo off
+rem Launches TypeTuto, using the class-data-sharing archive built by "mvn -Pcds verify" when present.
+rem The jar is looked up next to this script, then in ..\target; set TYPETUTO_JAR to override.
+rem Extra JVM flags can be passed in JAVA_OPTS; program arguments are forwarded.
+setlocal
+
+set "JAR=%TYPETUTO_JAR%"
+if not defined JAR if exist "%~dp0typeTuto-1.0.jar" set "JAR=%~dp0typeTuto-1.0.jar"
+if not defined JAR if exist "%~dp0..\target\typeTuto-1.0.jar" set "JAR=%~dp0..\target\typeTuto-1.0.jar"
+if not defined JAR (
+    echo TypeTuto jar not found; run mvn package or set TYPETUTO_JAR. 1>&2
+    exit /b 1
+)
+
+set "CDS_OPTS="
+for %%J in ("%JAR%") do set "ARCHIVE=%%~dpnJ.jsa"
+rem -Xshare:auto falls back to normal class loading if the archive is stale or does not match this JVM.
+if exist "%ARCHIVE%" set CDS_OPTS=-XX:SharedArchiveFile="%ARCHIVE%" -Xshare:auto -Xlog:cds=off -Xlog:cds+dynamic=off
+
+java %CDS_OPTS% %JAVA_OPTS% -jar "%JAR%" %*
@@ -0,0 +1,82 @@
+package typeTutor.model;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keystroke and line-advance throughput of {@link GameSession}.
+ * The virtual clock never advances, so sessions stay running for the whole measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSessionBenchmark {
+    @Param({"Words", "Numbers", "Quotes"})
+    public String wordMode;
+
+    private GameSession session;
+
+    /**
+     * Starts a fresh seeded session per iteration so line buffers do not grow across iterations.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        session = new GameSession(new VirtualClock(), new TextGenerator(new Random(42)), null);
+        session.applyNavbarOptions(wordMode, "Eng", "60s", "All");
+    }
+
+    /**
+     * One correct keystroke; completes and advances a line whenever the cursor reaches its end.
+     */
+    @Benchmark
+    public GameSession.InputResult typeCorrect() {
+        return session.processTypedCharacter(expectedChar());
+    }
+
+    /**
+     * One wrong keystroke followed by the backspace that removes it.
+     */
+    @Benchmark
+    public GameSession.InputResult typeWrongThenBackspace() {
+        char expected = expectedChar();
+        session.processTypedCharacter(expected == 'x' ? 'y' : 'x');
+        return session.processBackspace();
+    }
+
+    /**
+     * Types the whole active line, which ends in registerCompletedLineAndAdvance (or the quote equivalent).
+     */
+    @Benchmark
+    public int completeLine() {
+        int completedLines = session.getCompletedLines();
+        while (session.getCompletedLines() == completedLines) {
+            session.processTypedCharacter(expectedChar());
+        }
+        return session.getCompletedLines();
+    }
+
+    /**
+     * Returns the char the session expects next.
+     */
+    private char expectedChar() {
+        String target = session.getCurrentTargetText();
+        int cursor = session.getCursorIndex();
+        return cursor < target.length() ? target.charAt(cursor) : ' ';
+    }
+}
@@ -0,0 +1,57 @@
+package typeTutor.model;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Session text generation for every mode, language and time combination.
+ * Corpora are loaded once in setup, so only generation is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextGeneratorBenchmark {
+    @Param({"Words", "Numbers", "Quotes"})
+    public String wordMode;
+
+    @Param({"Eng", "Fil"})
+    public String language;
+
+    @Param({"15", "30", "60", "120"})
+    public int timeSeconds;
+
+    private TextGenerator textGenerator;
+
+    /**
+     * Creates a seeded generator and warms the corpus cache.
+     */
+    @Setup
+    public void setUp() {
+        textGenerator = new TextGenerator(new Random(42), new CorpusCache());
+        textGenerator.generateTriplets(wordMode, language, timeSeconds);
+    }
+
+    /**
+     * Generates one session's worth of triplets.
+     */
+    @Benchmark
+    public List<List<String>> generateTriplets() {
+        return textGenerator.generateTriplets(wordMode, language, timeSeconds);
+    }
+}
@@ -0,0 +1,56 @@
+package typeTutor.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Final score and rank computation of {@link TypingStats}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypingStatsBenchmark {
+    @Param({"25", "60", "110"})
+    public double wpm;
+
+    private TypingStats stats;
+
+    /**
+     * Builds a stats snapshot for a typical 60s session at the given speed.
+     */
+    @Setup
+    public void setUp() {
+        int correct = (int) (wpm * 5);
+        stats = new TypingStats(wpm, correct, correct / 20, correct / 5, correct / 40, "60s", "Eng", "Words");
+    }
+
+    /**
+     * Computes the final score.
+     */
+    @Benchmark
+    public double finalScore() {
+        return stats.getFinalScore();
+    }
+
+    /**
+     * Computes the rank label.
+     */
+    @Benchmark
+    public String rank() {
+        return stats.getRank();
+    }
+}
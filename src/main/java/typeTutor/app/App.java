@@ -22,9 +22,16 @@ public class App {
      * Starts Swing UI on EDT and wires MVC/MVP components.
      */
     public static void main(String[] args) {
+        StartupProfiler.start();
+        // Font files load in the background while the look and feel and the frame are set up.
         AppFonts.init();
+        if (StartupProfiler.isEnabled()) {
+            StartupProfiler.track("fonts ready", AppFonts.whenLoaded());
+        }
+        StartupProfiler.mark("fonts start");
 
         SwingUtilities.invokeLater(() -> {
+            StartupProfiler.mark("edt start");
             // Enable FlatLaf window decorations (custom title bar) for a more native-feeling experience
             // while still allowing us to place custom macOS-style traffic-light buttons.
             System.setProperty("flatlaf.useWindowDecorations", "true");
@@ -32,8 +39,17 @@ public class App {
             JDialog.setDefaultLookAndFeelDecorated(true);
             FlatLaf.setUseNativeWindowDecorations(false);
             FlatDarkLaf.setup();
+            StartupProfiler.mark("flatlaf setup");
             MainFrame frame = new MainFrame();
+            StartupProfiler.mark("main frame");
             MainController controller = new MainController(frame);
+            StartupProfiler.mark("main controller");
+            if (StartupProfiler.isEnabled()) {
+                frame.onFirstPaint(() -> {
+                    StartupProfiler.mark("first paint");
+                    SwingUtilities.invokeLater(StartupProfiler::finish);
+                });
+            }
             controller.getMainFrame().setVisible(true);
         });
     }
@@ -0,0 +1,193 @@
+package typeTutor.app;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Optional startup instrumentation, enabled with {@code -DtypeTuto.startupProfile}.
+ * Each {@link #mark} closes the phase that began at the previous mark; the first phase runs from process start
+ * to {@link #start}. Work running in the background, such as font loading, is timed separately with
+ * {@link #track} and left out of the total because it overlaps the phases. With {@code =true} the breakdown is printed to stderr; any other value names a CSV file
+ * that gets one row per launch. With {@code -DtypeTuto.startupProfile.exit=true} the app quits once the
+ * breakdown is written, so launches can be scripted.
+ */
+final class StartupProfiler {
+    public static final String PROPERTY = "typeTuto.startupProfile";
+    public static final String EXIT_PROPERTY = "typeTuto.startupProfile.exit";
+
+    // Output target: null when disabled, "true" for stderr, otherwise a CSV path.
+    private static final String TARGET = resolveTarget();
+
+    // Completed phases and the end of the latest one.
+    private static final List<String> phaseNames = new ArrayList<>();
+    private static final List<Double> phaseMillis = new ArrayList<>();
+    private static long lastMarkNanos;
+
+    // Background work: durations stay NaN until the work completes.
+    private static final List<String> backgroundNames = new ArrayList<>();
+    private static final List<Double> backgroundMillis = new ArrayList<>();
+
+    /**
+     * Utility class; no public constructor.
+     */
+    private StartupProfiler() {
+    }
+
+    /**
+     * Returns whether startup profiling is on.
+     */
+    static boolean isEnabled() {
+        return TARGET != null;
+    }
+
+    /**
+     * Records the time from process start to {@code main} as the "jvm start" phase.
+     */
+    static synchronized void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        lastMarkNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        double jvmMillis = ProcessHandle.current().info().startInstant()
+                .map(started -> (double) (nowMillis - started.toEpochMilli()))
+                .orElse(Double.NaN);
+        phaseNames.add("jvm start");
+        phaseMillis.add(jvmMillis);
+    }
+
+    /**
+     * Ends the current phase under {@code phase}.
+     */
+    static synchronized void mark(String phase) {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        phaseNames.add(phase);
+        phaseMillis.add((now - lastMarkNanos) / 1_000_000.0);
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Times {@code work} as "{@code name}" from the start of the current phase until it completes.
+     */
+    static synchronized void track(String name, CompletableFuture<?> work) {
+        if (!isEnabled()) {
+            return;
+        }
+        long startedNanos = lastMarkNanos;
+        int slot = backgroundNames.size();
+        backgroundNames.add(name);
+        backgroundMillis.add(Double.NaN);
+        work.whenComplete((result, error) -> finishBackground(slot, startedNanos));
+    }
+
+    /**
+     * Stores the duration of one tracked background task.
+     */
+    private static synchronized void finishBackground(int slot, long startedNanos) {
+        backgroundMillis.set(slot, (System.nanoTime() - startedNanos) / 1_000_000.0);
+    }
+
+    /**
+     * Writes the breakdown, then exits if {@value #EXIT_PROPERTY} is set.
+     */
+    static synchronized void finish() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            if ("true".equalsIgnoreCase(TARGET)) {
+                System.err.print(formatTable());
+            } else {
+                appendCsv(Paths.get(TARGET));
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write startup profile: " + e.getMessage());
+        }
+        if (Boolean.getBoolean(EXIT_PROPERTY)) {
+            System.exit(0);
+        }
+    }
+
+    /**
+     * Formats one line per phase plus the total, then the background timings.
+     */
+    private static String formatTable() {
+        StringBuilder out = new StringBuilder("Startup profile (ms):\n");
+        double total = 0.0;
+        for (int i = 0; i < phaseNames.size(); i++) {
+            double millis = phaseMillis.get(i);
+            out.append(String.format(Locale.ROOT, "  %-18s %8.1f%n", phaseNames.get(i), millis));
+            if (!Double.isNaN(millis)) {
+                total += millis;
+            }
+        }
+        out.append(String.format(Locale.ROOT, "  %-18s %8.1f%n", "total", total));
+        if (!backgroundNames.isEmpty()) {
+            out.append("Background (overlaps the phases above, ms):\n");
+            for (int i = 0; i < backgroundNames.size(); i++) {
+                out.append(String.format(Locale.ROOT, "  %-18s %8.1f%n", backgroundNames.get(i), backgroundMillis.get(i)));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Appends one row of phase timings, writing a header first when the file is new.
+     */
+    private static void appendCsv(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        StringBuilder out = new StringBuilder();
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            out.append("timestamp");
+            for (String name : phaseNames) {
+                out.append(',').append(name.replace(' ', '_'));
+            }
+            out.append(",total");
+            for (String name : backgroundNames) {
+                out.append(',').append(name.replace(' ', '_'));
+            }
+            out.append('\n');
+        }
+        out.append(Instant.now());
+        double total = 0.0;
+        for (double millis : phaseMillis) {
+            out.append(String.format(Locale.ROOT, ",%.1f", millis));
+            if (!Double.isNaN(millis)) {
+                total += millis;
+            }
+        }
+        out.append(String.format(Locale.ROOT, ",%.1f", total));
+        for (double millis : backgroundMillis) {
+            out.append(String.format(Locale.ROOT, ",%.1f", millis));
+        }
+        out.append('\n');
+        Files.writeString(file, out, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Reads the output target from {@value #PROPERTY}; unset, blank and "false" disable profiling.
+     */
+    private static String resolveTarget() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isBlank() || "false".equalsIgnoreCase(value)) {
+            return null;
+        }
+        return value.trim();
+    }
+}
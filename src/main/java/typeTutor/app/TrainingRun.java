@@ -0,0 +1,114 @@
+package typeTutor.app;
+
+import java.awt.Frame;
+import java.awt.GraphicsEnvironment;
+import java.awt.event.KeyEvent;
+import java.util.Random;
+
+import javax.swing.SwingUtilities;
+
+import com.formdev.flatlaf.FlatDarkLaf;
+
+import typeTutor.model.HeadlessTypingEngine;
+import typeTutor.model.SessionHistoryTracker;
+import typeTutor.view.AppFonts;
+import typeTutor.view.GameStatsPanel;
+import typeTutor.view.Headings;
+import typeTutor.view.MainFrame;
+import typeTutor.view.NavsPanel;
+import typeTutor.view.TypingPanel;
+
+/**
+ * Scripted launch used by the {@code cds} build profile to record which classes a normal start loads.
+ * Plays short sessions in every mode, then either starts the real app and types into it (with a display)
+ * or builds the main panels directly (headless), and exits so the JVM can dump its class-data archive.
+ */
+public class TrainingRun {
+    private static final String TRAINING_TEXT = "the quick brown fox jumps over the lazy dog ";
+    private static final int WINDOW_WAIT_MILLIS = 10_000;
+    private static final int SETTLE_MILLIS = 2_000;
+
+    /**
+     * Utility class; no public constructor.
+     */
+    private TrainingRun() {
+    }
+
+    /**
+     * Runs the training script and exits.
+     */
+    public static void main(String[] args) throws Exception {
+        playScriptedSessions();
+        if (GraphicsEnvironment.isHeadless()) {
+            AppFonts.init();
+            SwingUtilities.invokeAndWait(TrainingRun::buildPanels);
+        } else {
+            App.main(args);
+            typeIntoWindow();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Types a few seconds into each word mode, language and time mode and records the results.
+     */
+    private static void playScriptedSessions() {
+        SessionHistoryTracker history = new SessionHistoryTracker();
+        Random random = new Random(1);
+        for (String wordMode : new String[] {"Words", "Numbers", "Quotes"}) {
+            for (String language : new String[] {"Eng", "Fil"}) {
+                HeadlessTypingEngine engine = new HeadlessTypingEngine(random.nextLong());
+                engine.configure(wordMode, language, "15s", "All");
+                engine.simulate(200, 60_000_000L, 0.05, random);
+                history.recordSession(engine.getStats());
+            }
+        }
+        history.getAggregates().wpmAtPercentile(50);
+    }
+
+    /**
+     * Sets up the look and feel and builds the main panels without a window.
+     */
+    private static void buildPanels() {
+        FlatDarkLaf.setup();
+        new Headings();
+        new NavsPanel();
+        new TypingPanel().refreshDisplay();
+        new GameStatsPanel();
+    }
+
+    /**
+     * Waits for the main window, types the training text into it, and lets background warm-up finish.
+     */
+    private static void typeIntoWindow() throws Exception {
+        MainFrame frame = awaitMainFrame();
+        if (frame == null) {
+            throw new IllegalStateException("Main window did not appear within " + WINDOW_WAIT_MILLIS + " ms");
+        }
+
+        TypingPanel typingPanel = frame.getTypingPanel();
+        for (char c : TRAINING_TEXT.toCharArray()) {
+            SwingUtilities.invokeAndWait(() -> typingPanel.dispatchEvent(new KeyEvent(typingPanel,
+                    KeyEvent.KEY_TYPED, System.currentTimeMillis(), 0, KeyEvent.VK_UNDEFINED, c)));
+        }
+        SwingUtilities.invokeAndWait(() -> typingPanel.dispatchEvent(new KeyEvent(typingPanel,
+                KeyEvent.KEY_PRESSED, System.currentTimeMillis(), 0, KeyEvent.VK_BACK_SPACE, KeyEvent.CHAR_UNDEFINED)));
+        Thread.sleep(SETTLE_MILLIS);
+    }
+
+    /**
+     * Returns the main window once it is showing, or null after {@value #WINDOW_WAIT_MILLIS} ms.
+     */
+    private static MainFrame awaitMainFrame() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WINDOW_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            for (Frame frame : Frame.getFrames()) {
+                if (frame instanceof MainFrame mainFrame && mainFrame.isShowing()) {
+                    return mainFrame;
+                }
+            }
+            Thread.sleep(50);
+        }
+        return null;
+    }
+}
@@ -8,6 +8,7 @@ import java.awt.event.MouseEvent;
 import javax.swing.Timer;
 
 import typeTutor.model.LockState;
+import typeTutor.view.DialogRegistry;
 import typeTutor.view.LockDialog;
 import typeTutor.view.LockDialog.DialogAction;
 import typeTutor.view.LockDialog.DialogResult;
@@ -23,7 +24,7 @@ public class InactivityController {
 
     private final MainFrame mainFrame;
     private final LockState lockState;
-    private final LockDialog lockDialog;
+    private final DialogRegistry dialogs;
     private final Timer inactivityTimer;
     private final Runnable onLockAction;
     private final Runnable onUnlockAction;
@@ -39,7 +40,8 @@ public class InactivityController {
     public InactivityController(MainFrame mainFrame, Runnable onLockAction, Runnable onUnlockAction) {
         this.mainFrame = mainFrame;
         this.lockState = new LockState();
-        this.lockDialog = new LockDialog(mainFrame);
+        this.dialogs = mainFrame.getDialogs();
+        dialogs.register(LockDialog.class, () -> new LockDialog(mainFrame));
         this.inactivityTimer = new Timer(1000, e -> onInactivityTick());
         this.onLockAction = onLockAction;
         this.onUnlockAction = onUnlockAction;
@@ -72,7 +74,7 @@ public class InactivityController {
      */
     public void dispose() {
         inactivityTimer.stop();
-        lockDialog.dispose();
+        dialogs.dispose(LockDialog.class);
         Toolkit.getDefaultToolkit().removeAWTEventListener(mouseMotionListener);
     }
 
@@ -127,7 +129,7 @@ public class InactivityController {
         }
 
         while (lockState.isLocked()) {
-            DialogResult result = lockDialog.promptForPin(lockState.getExpectedPin());
+            DialogResult result = dialogs.get(LockDialog.class).promptForPin(lockState.getExpectedPin());
             if (result.getAction() == DialogAction.CLOSE_APP || result.getAction() == DialogAction.TIMEOUT) {
                 closeApplication();
                 return;
@@ -144,7 +146,7 @@ public class InactivityController {
                 return;
             }
 
-            lockDialog.showWrongPinMessage();
+            dialogs.get(LockDialog.class).showWrongPinMessage();
         }
     }
 
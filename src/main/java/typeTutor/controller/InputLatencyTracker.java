@@ -0,0 +1,183 @@
+package typeTutor.controller;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+import typeTutor.model.LatencyHistogram;
+
+/**
+ * Measures keystroke latency per pipeline stage, from {@code KeyEvent.getWhen()} to the paint
+ * that shows the keystroke. Stages:
+ * <ul>
+ * <li>queue: event timestamp to handler start (millisecond resolution, from the OS/AWT clock)</li>
+ * <li>model: GameSession input processing</li>
+ * <li>render: pushing state into the typing view</li>
+ * <li>paint: end of render to the end of the rows paint</li>
+ * <li>total: event timestamp to the end of the paint, including frame coalescing delay</li>
+ * </ul>
+ * All methods run on the EDT and never allocate on the keystroke path.
+ */
+public class InputLatencyTracker {
+    // Stage names in display order (index matches the histogram array).
+    private static final String[] STAGE_NAMES = {"queue", "model", "render", "paint", "total"};
+    private static final int QUEUE = 0;
+    private static final int MODEL = 1;
+    private static final int RENDER = 2;
+    private static final int PAINT = 3;
+    private static final int TOTAL = 4;
+
+    // Inputs awaiting their paint; older ones are dropped if paints stall.
+    private static final int MAX_PENDING = 64;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // Per-stage histograms.
+    private final LatencyHistogram[] histograms;
+
+    // Estimated event times (nanoTime base) of inputs not yet painted; the first
+    // renderedCount of them have been pushed to the view.
+    private final long[] pendingEventNanos;
+    private int pendingCount;
+    private int renderedCount;
+
+    // Current input and render in flight.
+    private long handlerStartNanos;
+    private long renderStartNanos;
+    private long lastRenderEndNanos;
+
+    /**
+     * Creates an empty tracker.
+     */
+    public InputLatencyTracker() {
+        this.histograms = new LatencyHistogram[STAGE_NAMES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        this.pendingEventNanos = new long[MAX_PENDING];
+    }
+
+    /**
+     * Marks the start of handling an input whose AWT event carried {@code eventWhenMillis}.
+     */
+    public void inputReceived(long eventWhenMillis) {
+        handlerStartNanos = System.nanoTime();
+        long queueNanos = eventWhenMillis > 0
+                ? Math.max(0, (System.currentTimeMillis() - eventWhenMillis) * 1_000_000L)
+                : 0;
+        histograms[QUEUE].record(queueNanos);
+
+        if (pendingCount == MAX_PENDING) {
+            dropOldestPending();
+        }
+        pendingEventNanos[pendingCount++] = handlerStartNanos - queueNanos;
+    }
+
+    /**
+     * Marks the end of model processing for the current input.
+     */
+    public void modelProcessed() {
+        histograms[MODEL].record(System.nanoTime() - handlerStartNanos);
+    }
+
+    /**
+     * Marks the start of a view render.
+     */
+    public void renderStarted() {
+        renderStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a view render; every pending input is now waiting only for paint.
+     */
+    public void renderFinished() {
+        lastRenderEndNanos = System.nanoTime();
+        if (renderedCount < pendingCount) {
+            histograms[RENDER].record(lastRenderEndNanos - renderStartNanos);
+        }
+        renderedCount = pendingCount;
+    }
+
+    /**
+     * Marks a completed rows paint; closes out every input rendered before it.
+     */
+    public void paintFinished() {
+        if (renderedCount == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        histograms[PAINT].record(now - lastRenderEndNanos);
+        for (int i = 0; i < renderedCount; i++) {
+            histograms[TOTAL].record(now - pendingEventNanos[i]);
+        }
+
+        int remaining = pendingCount - renderedCount;
+        System.arraycopy(pendingEventNanos, renderedCount, pendingEventNanos, 0, remaining);
+        pendingCount = remaining;
+        renderedCount = 0;
+    }
+
+    /**
+     * Clears all histograms and pending inputs.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        pendingCount = 0;
+        renderedCount = 0;
+    }
+
+    /**
+     * Returns a compact per-stage p50/p99/max summary for the debug overlay.
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-7s%9s%9s%9s%8s", "stage", "p50 ms", "p99 ms", "max ms", "n"));
+        for (int i = 0; i < histograms.length; i++) {
+            LatencyHistogram histogram = histograms[i];
+            text.append('\n').append(String.format(Locale.ROOT, "%-7s%9.3f%9.3f%9.3f%8d",
+                    STAGE_NAMES[i],
+                    histogram.valueAtPercentile(50) / NANOS_PER_MILLI,
+                    histogram.valueAtPercentile(99) / NANOS_PER_MILLI,
+                    histogram.getMax() / NANOS_PER_MILLI,
+                    histogram.getCount()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes the summary plus every non-empty bucket of every stage to {@code file}.
+     */
+    public void dumpTo(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("# typeTuto input latency, " + Instant.now() + "\n");
+            out.write(summary());
+            out.write("\n\n# stage, bucket_low_ns, bucket_high_ns, count\n");
+            for (int i = 0; i < histograms.length; i++) {
+                LatencyHistogram histogram = histograms[i];
+                for (int bucket = 0; bucket < histogram.bucketCount(); bucket++) {
+                    long count = histogram.bucketValueCount(bucket);
+                    if (count > 0) {
+                        out.write(STAGE_NAMES[i] + "," + LatencyHistogram.bucketLowerBound(bucket) + ","
+                                + LatencyHistogram.bucketUpperBound(bucket) + "," + count + "\n");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the oldest pending input so a stalled paint cannot overflow the buffer.
+     */
+    private void dropOldestPending() {
+        System.arraycopy(pendingEventNanos, 1, pendingEventNanos, 0, pendingCount - 1);
+        pendingCount--;
+        renderedCount = Math.max(0, renderedCount - 1);
+    }
+}
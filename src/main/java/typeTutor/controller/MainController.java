@@ -1,12 +1,23 @@
 package typeTutor.controller;
 
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-
-import javax.swing.Timer;
+import java.util.Map;
 
 import typeTutor.model.GameSession;
+import typeTutor.model.GhostTimeline;
+import typeTutor.model.KeystrokeLog;
+import typeTutor.model.PersonalBestStore;
+import typeTutor.model.SessionClock;
 import typeTutor.model.SessionHistoryTracker;
+import typeTutor.model.TextGenerator;
+import typeTutor.model.TickScheduler;
 import typeTutor.model.TypingStats;
 import typeTutor.view.GameStatsPanel;
 import typeTutor.view.MainFrame;
@@ -19,6 +30,16 @@ import typeTutor.view.TypingPanel;
  */
 public class MainController {
     private static final int DISTRACTION_FREE_TRIGGER_CHARACTERS = 1;
+    private static final int LATENCY_OVERLAY_REFRESH_MILLIS = 250;
+    // Directory for binary keystroke logs: writing session logs to disk is off unless this property is set;
+    // in-memory recording is always on for personal bests.
+    public static final String KEYSTROKE_LOG_DIR_PROPERTY = "typeTuto.keylog.dir";
+    // Personal bests used as race ghosts, one recorded run per mode combination.
+    private static final Path PERSONAL_BEST_DIR = Paths.get(System.getProperty("user.home"), ".typeTuto", "ghosts");
+    // Append-only session history kept across runs.
+    private static final Path HISTORY_FILE = Paths.get(System.getProperty("user.home"), ".typeTuto", "history.ttsh");
+    // Latency histogram dumps (Shift+F12).
+    private static final Path LATENCY_DUMP_DIR = Paths.get(System.getProperty("user.home"), ".typeTuto", "latency");
 
     // References to the views that render data and emit UI events.
     private final MainFrame mainFrame;
@@ -31,8 +52,24 @@ public class MainController {
     private final GameSession gameSession;
     private final SessionHistoryTracker historyTracker;
 
-    // Timer used to refresh countdown independently from key presses.
-    private final Timer countdownTimer;
+    // Ticker used to refresh countdown independently from key presses.
+    private final TickScheduler.Ticker countdownTimer;
+
+    // Folds keystroke-driven view updates into at most one render per display frame.
+    private final RenderScheduler renderScheduler;
+
+    // Keystroke latency measurement and its optional debug overlay.
+    private final InputLatencyTracker latencyTracker;
+    private final TickScheduler.Ticker latencyOverlayTicker;
+    private String latencyOverlayNote;
+
+    // Ghost race: stored personal bests, their timelines built so far (null when a best does not replay),
+    // and the timeline of the one being raced, if any.
+    private final PersonalBestStore personalBests;
+    private final TextGenerator ghostTextGenerator;
+    private final Map<String, GhostTimeline> ghostTimelines;
+    private GhostTimeline ghostTimeline;
+    private boolean ghostRaceEnabled;
 
     // Controller-managed render buffers for currently visible triplet text.
     private List<String> currentRows;
@@ -44,12 +81,27 @@ public class MainController {
      * Creates controller, binds events, and initializes first session view.
      */
     public MainController(MainFrame mainFrame) {
+        this(mainFrame, new SwingTickScheduler());
+    }
+
+    /**
+     * Creates controller whose countdown refresh is driven by the supplied scheduler.
+     */
+    public MainController(MainFrame mainFrame, TickScheduler tickScheduler) {
         this.mainFrame = mainFrame;
         this.typingPanel = mainFrame.getTypingPanel();
         this.navsPanel = mainFrame.getNavPanel();
         this.statsPanel = mainFrame.getStatsPanel();
         this.gameSession = new GameSession();
-        this.historyTracker = new SessionHistoryTracker();
+        String keystrokeLogDir = System.getProperty(KEYSTROKE_LOG_DIR_PROPERTY);
+        if (keystrokeLogDir != null && !keystrokeLogDir.isBlank()) {
+            gameSession.setKeystrokeLogDirectory(Paths.get(keystrokeLogDir));
+        }
+        gameSession.enableKeystrokeLog();
+        this.personalBests = new PersonalBestStore(PERSONAL_BEST_DIR);
+        this.ghostTextGenerator = new TextGenerator();
+        this.ghostTimelines = new HashMap<>();
+        this.historyTracker = openHistoryTracker();
         this.inactivityController = new InactivityController(
                 mainFrame,
                 this::pauseForLock,
@@ -59,14 +111,23 @@ public class MainController {
         this.currentTargetText = "";
         this.visibleChars = new char[0];
         this.stateByChar = new int[0];
-        this.countdownTimer = new Timer(100, e -> onCountdownTick());
+        this.countdownTimer = tickScheduler.createTicker(100, this::onCountdownTick);
+        this.renderScheduler = new RenderScheduler(
+                tickScheduler,
+                SessionClock.system(),
+                RenderScheduler.resolveRefreshRate(),
+                this::renderTypingState);
+        this.latencyTracker = new InputLatencyTracker();
+        this.latencyOverlayTicker = tickScheduler.createTicker(
+                LATENCY_OVERLAY_REFRESH_MILLIS,
+                this::refreshLatencyOverlay);
 
         bindViewEvents();
         loadCurrentTripletFromSession();
         typingPanel.setTimerSeconds(gameSession.getRemainingSeconds());
         statsPanel.showWaitingState();
         mainFrame.setDistractionFreeMode(false);
-        mainFrame.setSessionHistoryEntries(historyTracker.getEntries());
+        mainFrame.setSessionHistory(historyTracker);
     }
 
     /**
@@ -80,17 +141,23 @@ public class MainController {
      * Subscribes to mode and typing events emitted by views.
      */
     private void bindViewEvents() {
-        navsPanel.setModeChangeListener((wordMode, language, timeMode) -> onModesChanged(wordMode, language, timeMode));
+        navsPanel.setModeChangeListener(this::onModesChanged);
+        mainFrame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                closeHistory();
+            }
+        });
 
         typingPanel.setInputListener(new TypingPanel.InputListener() {
             @Override
-            public void onCharacterTyped(char value) {
-                onCharacterTypedByUser(value);
+            public void onCharacterTyped(char value, long eventTimeMillis) {
+                onCharacterTypedByUser(value, eventTimeMillis);
             }
 
             @Override
-            public void onBackspace() {
-                onBackspacePressed();
+            public void onBackspace(long eventTimeMillis) {
+                onBackspacePressed(eventTimeMillis);
             }
 
             @Override
@@ -104,17 +171,38 @@ public class MainController {
                 inactivityController.recordActivity();
                 finishSessionAndReset();
             }
+
+            @Override
+            public void onLatencyOverlayToggled() {
+                toggleLatencyOverlay();
+            }
+
+            @Override
+            public void onLatencyDumpRequested() {
+                dumpLatencyHistogram();
+            }
+
+            @Override
+            public void onGhostRaceToggled() {
+                inactivityController.recordActivity();
+                toggleGhostRace();
+            }
         });
+        typingPanel.setRowsPaintListener(latencyTracker::paintFinished);
     }
 
     /**
      * Handles navbar mode changes and restarts session using selected options.
      */
-    private void onModesChanged(String wordMode, String language, String timeMode) {
+    private void onModesChanged(String wordMode, String language, String timeMode, String quoteLength) {
         inactivityController.recordActivity();
         countdownTimer.stop();
         mainFrame.setDistractionFreeMode(false);
-        gameSession.applyNavbarOptions(wordMode, language, timeMode);
+        gameSession.setWordMode(wordMode);
+        gameSession.setLanguage(language);
+        gameSession.setTimeMode(timeMode);
+        gameSession.setQuoteLength(quoteLength);
+        resetSessionWithGhost();
         loadCurrentTripletFromSession();
         typingPanel.setTimerSeconds(gameSession.getRemainingSeconds());
         statsPanel.showWaitingState();
@@ -124,13 +212,15 @@ public class MainController {
     /**
      * Handles typed characters and advances game state.
      */
-    private void onCharacterTypedByUser(char typedChar) {
+    private void onCharacterTypedByUser(char typedChar, long eventTimeMillis) {
         if (inactivityController.isLocked()) {
             return;
         }
 
+        latencyTracker.inputReceived(eventTimeMillis);
         inactivityController.recordActivity();
         GameSession.InputResult result = gameSession.processTypedCharacter(typedChar);
+        latencyTracker.modelProcessed();
         if (result.isGameStopped()) {
             finishSessionAndReset();
             return;
@@ -155,7 +245,7 @@ public class MainController {
             stateByChar[index] = result.isCorrect() ? TypingPanel.CORRECT_STATE : TypingPanel.WRONG_STATE;
         }
 
-        renderTypingState();
+        renderScheduler.requestRender();
 
         if (!gameSession.isGameRunning()) {
             finishSessionAndReset();
@@ -165,13 +255,15 @@ public class MainController {
     /**
      * Handles backspace and restores previous source character in rendered text.
      */
-    private void onBackspacePressed() {
+    private void onBackspacePressed(long eventTimeMillis) {
         if (inactivityController.isLocked()) {
             return;
         }
 
+        latencyTracker.inputReceived(eventTimeMillis);
         inactivityController.recordActivity();
         GameSession.InputResult result = gameSession.processBackspace();
+        latencyTracker.modelProcessed();
         if (result.isGameStopped()) {
             return;
         }
@@ -182,7 +274,7 @@ public class MainController {
             stateByChar[index] = TypingPanel.DEFAULT_STATE;
         }
 
-        renderTypingState();
+        renderScheduler.requestRender();
     }
 
     /**
@@ -203,19 +295,144 @@ public class MainController {
         countdownTimer.stop();
         TypingStats finalStats = gameSession.getTypingStats();
         statsPanel.updateStats(finalStats);
-        historyTracker.recordSession(finalStats);
-        mainFrame.setSessionHistoryEntries(historyTracker.getEntries());
+        try {
+            historyTracker.recordSession(finalStats);
+        } catch (IllegalStateException e) {
+            // History is best-effort; a failed write must not interrupt the next session.
+        }
         mainFrame.setDistractionFreeMode(false);
         if (gameSession.getRemainingSeconds() <= 0) {
             mainFrame.showTypingStatsDialog(finalStats);
+            offerPersonalBest();
         }
 
-        gameSession.resetForCurrentOptions();
+        resetSessionWithGhost();
         loadCurrentTripletFromSession();
         typingPanel.setTimerSeconds(gameSession.getRemainingSeconds());
         typingPanel.focusTypingArea();
     }
 
+    /**
+     * Closes the history file so its lock is released before the app exits.
+     */
+    private void closeHistory() {
+        try {
+            historyTracker.close();
+        } catch (IOException e) {
+            // Every record was already written; nothing is lost if closing fails.
+        }
+    }
+
+    /**
+     * Opens the persistent session history, falling back to memory-only history if the file is unusable
+     * or already in use by another instance.
+     */
+    private static SessionHistoryTracker openHistoryTracker() {
+        try {
+            return new SessionHistoryTracker(HISTORY_FILE);
+        } catch (IOException e) {
+            return new SessionHistoryTracker();
+        }
+    }
+
+    /**
+     * Turns ghost racing on or off and restarts the session (on the best run's text when racing).
+     */
+    private void toggleGhostRace() {
+        ghostRaceEnabled = !ghostRaceEnabled;
+        countdownTimer.stop();
+        mainFrame.setDistractionFreeMode(false);
+        resetSessionWithGhost();
+        loadCurrentTripletFromSession();
+        typingPanel.setTimerSeconds(gameSession.getRemainingSeconds());
+        statsPanel.showWaitingState();
+        typingPanel.focusTypingArea();
+    }
+
+    /**
+     * Resets the session once: in race mode with a usable personal best, on that run's text with its ghost
+     * animating on the render frame clock; otherwise on fresh (pregenerated) text without a ghost.
+     */
+    private void resetSessionWithGhost() {
+        String key = personalBestKey();
+        ghostTimeline = ghostRaceEnabled ? ghostTimelineFor(key) : null;
+        if (ghostTimeline != null) {
+            gameSession.resetForCurrentOptions(personalBests.get(key).getSeed());
+        } else {
+            gameSession.resetForCurrentOptions();
+        }
+        if (ghostTimeline == null) {
+            renderScheduler.setFrameAction(null);
+            typingPanel.hideGhostCursor();
+            return;
+        }
+        renderScheduler.setFrameAction(this::updateGhostCursor);
+    }
+
+    /**
+     * Returns the ghost timeline of the personal best for {@code key}, replaying that best only the first time
+     * it is raced; null when there is no best or it no longer replays against the current corpora.
+     */
+    private GhostTimeline ghostTimelineFor(String key) {
+        if (!ghostTimelines.containsKey(key)) {
+            KeystrokeLog best = personalBests.get(key);
+            GhostTimeline timeline = null;
+            if (best != null) {
+                try {
+                    timeline = GhostTimeline.fromLog(best, ghostTextGenerator);
+                } catch (IllegalStateException e) {
+                    // Race without a ghost until a new best replaces this one.
+                }
+            }
+            ghostTimelines.put(key, timeline);
+        }
+        return ghostTimelines.get(key);
+    }
+
+    /**
+     * Frame action: places the ghost where the best run was at the same active time, when it is on a visible row.
+     */
+    private void updateGhostCursor() {
+        long elapsedNanos = gameSession.getElapsedNanos();
+        int lineOffset = ghostTimeline.segmentAt(elapsedNanos) - gameSession.getCompletedLines();
+        boolean visible = gameSession.isQuotesMode() ? lineOffset == 0 : Math.abs(lineOffset) <= 1;
+        if (!visible) {
+            typingPanel.hideGhostCursor();
+            return;
+        }
+        typingPanel.setGhostCursor(lineOffset, ghostTimeline.cursorAt(elapsedNanos));
+    }
+
+    /**
+     * Keeps the just-finished full-length run as the ghost for its mode combination if it beats the stored best.
+     */
+    private void offerPersonalBest() {
+        KeystrokeLog run = gameSession.snapshotKeystrokeLog();
+        if (run == null) {
+            return;
+        }
+        String key = personalBestKey();
+        try {
+            if (personalBests.offer(key, run)) {
+                ghostTimelines.remove(key);
+            }
+        } catch (IllegalStateException e) {
+            // The best is still kept in memory for this run of the app.
+            ghostTimelines.remove(key);
+        }
+    }
+
+    /**
+     * Returns the personal best key for the session's current options.
+     */
+    private String personalBestKey() {
+        return PersonalBestStore.key(
+                gameSession.getWordMode(),
+                gameSession.getLanguage(),
+                gameSession.getTimeMode(),
+                gameSession.getQuoteLength());
+    }
+
     /**
      * Pauses active timers while the lock screen is shown.
      */
@@ -248,13 +465,14 @@ public class MainController {
         currentTargetText = gameSession.getCurrentTargetText();
         visibleChars = currentTargetText.toCharArray();
         stateByChar = new int[currentTargetText.length()];
-        renderTypingState();
+        renderScheduler.renderNow();
     }
 
     /**
      * Pushes current controller-managed display state into typing view.
      */
     private void renderTypingState() {
+        latencyTracker.renderStarted();
         typingPanel.renderState(
                 currentRows,
                 currentTargetText,
@@ -266,5 +484,46 @@ public class MainController {
                 gameSession.getLastCompletedCharStates(),
                 gameSession.isQuotesMode());
         typingPanel.setTimerSeconds(gameSession.getRemainingSeconds());
+        latencyTracker.renderFinished();
+    }
+
+    /**
+     * Shows or hides the latency overlay; it refreshes on its own ticker while visible.
+     */
+    private void toggleLatencyOverlay() {
+        if (latencyOverlayTicker.isRunning()) {
+            latencyOverlayTicker.stop();
+            typingPanel.setLatencyOverlayText(null);
+            return;
+        }
+        latencyOverlayTicker.start();
+        refreshLatencyOverlay();
+    }
+
+    /**
+     * Pushes the current latency summary into the overlay.
+     */
+    private void refreshLatencyOverlay() {
+        String summary = latencyTracker.summary();
+        typingPanel.setLatencyOverlayText(latencyOverlayNote == null ? summary : summary + "\n" + latencyOverlayNote);
+    }
+
+    /**
+     * Writes the latency histograms under the user's {@code ~/.typeTuto/latency} directory and notes the result
+     * in the overlay.
+     */
+    private void dumpLatencyHistogram() {
+        Path file = LATENCY_DUMP_DIR.resolve("latency-" + System.currentTimeMillis() + ".txt");
+        try {
+            latencyTracker.dumpTo(file);
+            latencyOverlayNote = "dumped " + file;
+        } catch (IOException e) {
+            latencyOverlayNote = "dump failed: " + e.getMessage();
+        }
+        if (!latencyOverlayTicker.isRunning()) {
+            toggleLatencyOverlay();
+        } else {
+            refreshLatencyOverlay();
+        }
     }
 }
@@ -0,0 +1,147 @@
+package typeTutor.controller;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+
+import typeTutor.model.SessionClock;
+import typeTutor.model.TickScheduler;
+
+/**
+ * Coalesces view render requests to at most one per display frame.
+ * The first request after an idle frame renders immediately; requests arriving within the same
+ * frame are folded into one render at the next frame tick, which then reads the latest model state.
+ * An optional frame action (e.g. the race ghost) runs on the same ticks, so animations share one frame clock.
+ */
+public class RenderScheduler {
+    // Refresh rate override (frames per second) and fallbacks.
+    public static final String REFRESH_RATE_PROPERTY = "typeTuto.refreshRate";
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final int MAX_REFRESH_RATE = 1000;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Render callback, time source, and frame ticker.
+    private final Runnable render;
+    private final SessionClock clock;
+    private final long framePeriodNanos;
+    private final TickScheduler.Ticker frameTicker;
+
+    // Coalescing state and the per-frame animation, if any.
+    private Runnable frameAction;
+    private boolean pending;
+    private long lastRenderNanos;
+    private boolean rendered;
+
+    /**
+     * Creates a scheduler that renders at most {@code refreshRate} times per second.
+     */
+    public RenderScheduler(TickScheduler tickScheduler, SessionClock clock, int refreshRate, Runnable render) {
+        if (refreshRate <= 0 || refreshRate > MAX_REFRESH_RATE) {
+            throw new IllegalArgumentException("Refresh rate must be 1.." + MAX_REFRESH_RATE + ": " + refreshRate);
+        }
+        this.render = render;
+        this.clock = clock;
+        this.framePeriodNanos = NANOS_PER_SECOND / refreshRate;
+        this.frameTicker = tickScheduler.createTicker(Math.max(1, 1000 / refreshRate), this::onFrame);
+    }
+
+    /**
+     * Marks the view stale; renders now if a frame has passed since the last render, otherwise on the next tick.
+     */
+    public void requestRender() {
+        if (pending) {
+            return;
+        }
+
+        if (!rendered || clock.nanoTime() - lastRenderNanos >= framePeriodNanos) {
+            renderNow();
+            return;
+        }
+
+        pending = true;
+        if (!frameTicker.isRunning()) {
+            frameTicker.start();
+        }
+    }
+
+    /**
+     * Renders immediately, absorbing any pending request (used for session resets and mode changes).
+     */
+    public void renderNow() {
+        pending = false;
+        lastRenderNanos = clock.nanoTime();
+        rendered = true;
+        render.run();
+    }
+
+    /**
+     * Drops a pending render and stops the frame ticker.
+     */
+    public void cancel() {
+        pending = false;
+        if (frameAction == null) {
+            frameTicker.stop();
+        }
+    }
+
+    /**
+     * Runs {@code action} on every frame tick until it is cleared with null.
+     */
+    public void setFrameAction(Runnable action) {
+        this.frameAction = action;
+        if (action != null && !frameTicker.isRunning()) {
+            frameTicker.start();
+        }
+    }
+
+    /**
+     * Returns whether a coalesced render is waiting for the next frame.
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Frame tick: runs the frame action and flushes a pending render; stops ticking once
+     * a frame passes with neither.
+     */
+    private void onFrame() {
+        if (frameAction != null) {
+            frameAction.run();
+        }
+        if (pending) {
+            renderNow();
+            return;
+        }
+        if (frameAction == null) {
+            frameTicker.stop();
+        }
+    }
+
+    /**
+     * Resolves the target refresh rate: the {@value #REFRESH_RATE_PROPERTY} system property,
+     * then the default screen's refresh rate, then 60 Hz.
+     */
+    public static int resolveRefreshRate() {
+        String configured = System.getProperty(REFRESH_RATE_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            try {
+                int rate = Integer.parseInt(configured.trim());
+                if (rate > 0 && rate <= MAX_REFRESH_RATE) {
+                    return rate;
+                }
+            } catch (NumberFormatException ignored) {
+                // Fall through to the display rate.
+            }
+        }
+
+        if (!GraphicsEnvironment.isHeadless()) {
+            DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice()
+                    .getDisplayMode();
+            if (mode.getRefreshRate() != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return Math.min(MAX_REFRESH_RATE, mode.getRefreshRate());
+            }
+        }
+        return DEFAULT_REFRESH_RATE;
+    }
+}
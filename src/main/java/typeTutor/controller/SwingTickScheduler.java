@@ -0,0 +1,34 @@
+package typeTutor.controller;
+
+import javax.swing.Timer;
+
+import typeTutor.model.TickScheduler;
+
+/**
+ * Tick scheduler backed by Swing timers, so callbacks run on the EDT.
+ */
+public class SwingTickScheduler implements TickScheduler {
+    /**
+     * Creates a stopped Swing timer wrapped as a ticker.
+     */
+    @Override
+    public Ticker createTicker(int periodMillis, Runnable action) {
+        Timer timer = new Timer(periodMillis, e -> action.run());
+        return new Ticker() {
+            @Override
+            public void start() {
+                timer.start();
+            }
+
+            @Override
+            public void stop() {
+                timer.stop();
+            }
+
+            @Override
+            public boolean isRunning() {
+                return timer.isRunning();
+            }
+        };
+    }
+}
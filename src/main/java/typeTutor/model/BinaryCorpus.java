@@ -0,0 +1,204 @@
+package typeTutor.model;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact binary corpus format produced at build time from the JSON text resources.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int     magic ("TTCB")
+ * int     version
+ * int     entry count N
+ * int     length group count G
+ * int[2G] inclusive {min, max} char length of each group
+ * int[N]  absolute offset of each entry
+ * N x     { u16 byte length, u16 char length, UTF-8 bytes }
+ * </pre>
+ */
+public final class BinaryCorpus {
+    static final int MAGIC = 0x54544342;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 16;
+    static final int ENTRY_HEADER_BYTES = 4;
+    static final int MAX_ENTRY_BYTES = 0xFFFF;
+
+    /**
+     * Utility class; no public constructor.
+     */
+    private BinaryCorpus() {
+    }
+
+    /**
+     * Writes values as one binary corpus without length groups.
+     */
+    public static void write(List<String> values, OutputStream out) throws IOException {
+        write(values, new int[0][], out);
+    }
+
+    /**
+     * Writes values and their declared length groups as one binary corpus.
+     */
+    public static void write(List<String> values, int[][] groups, OutputStream out) throws IOException {
+        List<byte[]> encoded = new ArrayList<>(values.size());
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_ENTRY_BYTES || value.length() > MAX_ENTRY_BYTES) {
+                throw new IllegalArgumentException("Corpus entry too long: " + bytes.length + " bytes");
+            }
+            encoded.add(bytes);
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(encoded.size());
+        data.writeInt(groups.length);
+        for (int[] group : groups) {
+            data.writeInt(group[0]);
+            data.writeInt(group[1]);
+        }
+
+        long offset = HEADER_BYTES + 8L * groups.length + 4L * encoded.size();
+        for (byte[] bytes : encoded) {
+            if (offset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Corpus exceeds 2 GB offset range");
+            }
+            data.writeInt((int) offset);
+            offset += ENTRY_HEADER_BYTES + bytes.length;
+        }
+        for (int i = 0; i < encoded.size(); i++) {
+            byte[] bytes = encoded.get(i);
+            data.writeShort(bytes.length);
+            data.writeShort(values.get(i).length());
+            data.write(bytes);
+        }
+        data.flush();
+    }
+
+    /**
+     * Decodes every entry of a binary corpus buffer.
+     */
+    public static List<String> read(ByteBuffer buffer) {
+        int count = validateHeader(buffer);
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+
+        List<String> values = new ArrayList<>(count);
+        byte[] scratch = new byte[256];
+        int tableStart = offsetTableStart(buffer);
+        for (int i = 0; i < count; i++) {
+            int offset = entryOffset(buffer, tableStart, i);
+            int length = entryByteLength(buffer, offset);
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(offset + ENTRY_HEADER_BYTES, scratch, 0, length);
+            values.add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    /**
+     * Checks magic/version and returns the entry count.
+     */
+    static int validateHeader(ByteBuffer buffer) {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a binary corpus");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported binary corpus version: " + version);
+        }
+        int count = buffer.getInt(8);
+        int groupCount = buffer.getInt(12);
+        if (count < 0 || groupCount < 0 || HEADER_BYTES + 8L * groupCount + 4L * count > buffer.limit()) {
+            throw new IllegalStateException("Corrupt binary corpus offset table");
+        }
+        return count;
+    }
+
+    /**
+     * Returns the declared length groups as {min, max} pairs.
+     */
+    static int[][] readGroups(ByteBuffer buffer) {
+        int groupCount = buffer.getInt(12);
+        int[][] groups = new int[groupCount][];
+        for (int i = 0; i < groupCount; i++) {
+            int position = HEADER_BYTES + 8 * i;
+            groups[i] = new int[] {buffer.getInt(position), buffer.getInt(position + 4)};
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the position where the entry offset table starts.
+     */
+    static int offsetTableStart(ByteBuffer buffer) {
+        return HEADER_BYTES + 8 * buffer.getInt(12);
+    }
+
+    /**
+     * Returns the absolute offset of entry {@code index}.
+     */
+    static int entryOffset(ByteBuffer buffer, int tableStart, int index) {
+        return buffer.getInt(tableStart + 4 * index);
+    }
+
+    /**
+     * Returns the UTF-8 byte length of the entry at {@code offset}.
+     */
+    static int entryByteLength(ByteBuffer buffer, int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset));
+    }
+
+    /**
+     * Returns the UTF-16 char length of the entry at {@code offset}.
+     */
+    static int entryCharLength(ByteBuffer buffer, int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset + 2));
+    }
+
+    /**
+     * Reads a classpath resource into a direct buffer, or returns null when it is absent.
+     */
+    public static ByteBuffer loadResource(String path) throws IOException {
+        URL url = BinaryCorpus.class.getResource(path);
+        if (url == null) {
+            return null;
+        }
+
+        URLConnection connection = url.openConnection();
+        long declaredSize = connection.getContentLengthLong();
+        try (InputStream stream = connection.getInputStream();
+                ReadableByteChannel channel = Channels.newChannel(stream)) {
+            // One spare byte lets an exactly-sized read hit EOF without growing.
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.max(declaredSize + 1, 4096));
+            while (channel.read(buffer) >= 0) {
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer grown = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    buffer.flip();
+                    grown.put(buffer);
+                    buffer = grown;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package typeTutor.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Process-wide cache of parsed words/quotes resources.
+ * Word lists are parsed once and handed out as immutable lists; quotes are served from a mapped
+ * {@link QuoteStore}, built from the parsed JSON only when the binary corpus is missing.
+ */
+public final class CorpusCache {
+    // Classpath resource paths and quote filtering limit.
+    private static final String WORDS_EN_PATH = "/text/words/english_1k.json";
+    private static final String WORDS_FIL_PATH = "/text/words/filipino.json";
+    private static final String QUOTES_EN_PATH = "/text/quotes/english.json";
+    private static final String QUOTES_FIL_PATH = "/text/quotes/filipino.json";
+    static final int QUOTE_MAX_CHARS = 200;
+
+    private static final CorpusCache SHARED = new CorpusCache();
+
+    /**
+     * Corpus kinds stored by the cache.
+     */
+    public enum Kind {
+        WORDS,
+        QUOTES
+    }
+
+    // Parsed corpora and mapped quote stores keyed by kind + language, plus lookup counters.
+    private final ConcurrentMap<String, List<String>> corpora;
+    private final ConcurrentMap<String, QuoteStore> quoteStores;
+    private final ConcurrentMap<String, QuoteLengthIndex> quoteLengthIndexes;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    /**
+     * Creates an empty cache. Application code should use {@link #shared()}.
+     */
+    CorpusCache() {
+        this.corpora = new ConcurrentHashMap<>();
+        this.quoteStores = new ConcurrentHashMap<>();
+        this.quoteLengthIndexes = new ConcurrentHashMap<>();
+        this.objectMapper = new ObjectMapper();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Returns the process-wide cache instance.
+     */
+    public static CorpusCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the immutable word list for the selected language.
+     */
+    public List<String> words(String language) {
+        return get(Kind.WORDS, language);
+    }
+
+    /**
+     * Returns a cached corpus, parsing the backing resource on first request.
+     * For {@link Kind#QUOTES} this is the length-filtered list of the JSON fallback path;
+     * quote sampling goes through {@link #quoteStore(String)} instead.
+     */
+    public List<String> get(Kind kind, String language) {
+        String key = cacheKey(kind, language);
+        List<String> cached = corpora.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        return corpora.computeIfAbsent(key, ignored -> {
+            misses.incrementAndGet();
+            return kind == Kind.QUOTES ? loadQuotes(language) : loadWords(language);
+        });
+    }
+
+    /**
+     * Returns the memory-mapped quote store for the selected language; quote text stays off-heap until sampled.
+     */
+    public QuoteStore quoteStore(String language) {
+        String key = cacheKey(Kind.QUOTES, language);
+        QuoteStore cached = quoteStores.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        return quoteStores.computeIfAbsent(key, ignored -> {
+            misses.incrementAndGet();
+            return openQuoteStore(language);
+        });
+    }
+
+    /**
+     * Returns the length-group index over the selected language's quote store.
+     */
+    public QuoteLengthIndex quoteLengthIndex(String language) {
+        String key = cacheKey(Kind.QUOTES, language);
+        QuoteLengthIndex cached = quoteLengthIndexes.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        QuoteStore store = quoteStore(language);
+        return quoteLengthIndexes.computeIfAbsent(key, ignored -> {
+            misses.incrementAndGet();
+            return new QuoteLengthIndex(store);
+        });
+    }
+
+    /**
+     * Returns how many lookups were served from already-parsed data.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many lookups required parsing a resource.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Drops all parsed corpora and resets counters.
+     */
+    public void clear() {
+        corpora.clear();
+        quoteStores.clear();
+        quoteLengthIndexes.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Builds the cache key for one kind/language pair.
+     */
+    private String cacheKey(Kind kind, String language) {
+        return kind.name() + ':' + (isLanguageFilipino(language) ? "fil" : "eng");
+    }
+
+    /**
+     * Loads word list file based on selected language.
+     * Prefers the build-generated binary corpus and falls back to JSON.
+     */
+    private List<String> loadWords(String language) {
+        String path = isLanguageFilipino(language) ? WORDS_FIL_PATH : WORDS_EN_PATH;
+        List<String> binary = loadBinary(path);
+        if (binary != null) {
+            return List.copyOf(binary);
+        }
+
+        try (InputStream stream = CorpusCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing words file: " + path);
+            }
+
+            WordPayload payload = objectMapper.readValue(stream, WordPayload.class);
+            return payload.words == null ? Collections.emptyList() : List.copyOf(payload.words);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read words file: " + path, e);
+        }
+    }
+
+    /**
+     * Loads quote list file based on selected language.
+     * Prefers the build-generated binary corpus and falls back to JSON.
+     */
+    private List<String> loadQuotes(String language) {
+        String path = isLanguageFilipino(language) ? QUOTES_FIL_PATH : QUOTES_EN_PATH;
+        List<String> binary = loadBinary(path);
+        if (binary != null) {
+            return filterQuotes(binary);
+        }
+
+        try (InputStream stream = CorpusCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing quotes file: " + path);
+            }
+
+            QuotePayload payload = objectMapper.readValue(stream, QuotePayload.class);
+            if (payload.quotes == null || payload.quotes.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<String> allValues = new ArrayList<>(payload.quotes.size());
+            for (Quote quote : payload.quotes) {
+                if (quote != null && quote.text != null && !quote.text.isBlank()) {
+                    allValues.add(quote.text.trim());
+                }
+            }
+            return filterQuotes(allValues);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read quotes file: " + path, e);
+        }
+    }
+
+    /**
+     * Maps the build-generated quote corpus, or writes one from the JSON data when it is missing.
+     */
+    private QuoteStore openQuoteStore(String language) {
+        String path = isLanguageFilipino(language) ? QUOTES_FIL_PATH : QUOTES_EN_PATH;
+        try {
+            QuoteStore store = QuoteStore.openResource(binaryPathFor(path));
+            if (store != null) {
+                return store;
+            }
+            return QuoteStore.fromValues(cacheKey(Kind.QUOTES, language).replace(':', '-'), loadQuotes(language));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to map quote corpus: " + path, e);
+        }
+    }
+
+    /**
+     * Applies the quote length limit to already-trimmed quote texts.
+     */
+    private List<String> filterQuotes(List<String> allValues) {
+        List<String> values = new ArrayList<>(allValues.size());
+        for (String text : allValues) {
+            if (text.length() <= QUOTE_MAX_CHARS) {
+                values.add(text);
+            }
+        }
+
+        // If everything was filtered out, fall back to the raw set.
+        return List.copyOf(values.isEmpty() ? allValues : values);
+    }
+
+    /**
+     * Reads the .bin sibling of a JSON resource, or returns null when the build did not produce one.
+     */
+    private List<String> loadBinary(String jsonPath) {
+        String path = binaryPathFor(jsonPath);
+        try {
+            ByteBuffer buffer = BinaryCorpus.loadResource(path);
+            return buffer == null ? null : BinaryCorpus.read(buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read binary corpus: " + path, e);
+        }
+    }
+
+    /**
+     * Maps a JSON resource path to its generated binary corpus path.
+     */
+    static String binaryPathFor(String jsonPath) {
+        return jsonPath.substring(0, jsonPath.length() - ".json".length()) + ".bin";
+    }
+
+    /**
+     * Detects Filipino language selection token.
+     */
+    private static boolean isLanguageFilipino(String language) {
+        return language != null && language.trim().toLowerCase(Locale.ROOT).startsWith("fil");
+    }
+
+    /**
+     * JSON payload type for words files.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class WordPayload {
+        private List<String> words;
+
+        public List<String> getWords() { return words; }
+        public void setWords(List<String> words) { this.words = words; }
+    }
+
+    /**
+     * JSON payload type for quotes files.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class QuotePayload {
+        private List<Quote> quotes;
+
+        public List<Quote> getQuotes() { return quotes; }
+        public void setQuotes(List<Quote> quotes) { this.quotes = quotes; }
+    }
+
+    /**
+     * JSON quote object model.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class Quote {
+        private String text;
+
+        public String getText() { return text; }
+        public void setText(String text) { this.text = text; }
+    }
+}
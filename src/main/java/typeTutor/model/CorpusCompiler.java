@@ -0,0 +1,104 @@
+package typeTutor.model;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Build-time tool that converts the JSON text resources into {@link BinaryCorpus} files.
+ * Invoked from the Maven build with the JSON source directory and the output directory.
+ */
+public final class CorpusCompiler {
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a compiler with its own JSON mapper.
+     */
+    public CorpusCompiler() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Usage: {@code CorpusCompiler <json source dir> <binary output dir>}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: CorpusCompiler <sourceDir> <outputDir>");
+        }
+        new CorpusCompiler().compileTree(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    /**
+     * Converts every JSON file below {@code sourceDir} into a sibling .bin file below {@code outputDir}.
+     */
+    public void compileTree(Path sourceDir, Path outputDir) throws IOException {
+        List<Path> sources;
+        try (Stream<Path> walk = Files.walk(sourceDir)) {
+            sources = walk.filter(path -> path.toString().endsWith(".json")).toList();
+        }
+
+        for (Path source : sources) {
+            String relative = sourceDir.relativize(source).toString();
+            Path target = outputDir.resolve(relative.substring(0, relative.length() - ".json".length()) + ".bin");
+            compileFile(source, target);
+        }
+    }
+
+    /**
+     * Converts one words or quotes JSON file.
+     */
+    public void compileFile(Path source, Path target) throws IOException {
+        JsonNode root = objectMapper.readTree(source.toFile());
+        List<String> values = extractValues(root);
+        int[][] groups = extractGroups(root);
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            BinaryCorpus.write(values, groups, out);
+        }
+    }
+
+    /**
+     * Pulls the plain strings out of a words ({@code words[]}) or quotes ({@code quotes[].text}) payload.
+     */
+    private List<String> extractValues(JsonNode root) {
+        List<String> values = new ArrayList<>();
+        JsonNode words = root.path("words");
+        if (words.isArray()) {
+            for (JsonNode word : words) {
+                values.add(word.asText());
+            }
+            return values;
+        }
+
+        for (JsonNode quote : root.path("quotes")) {
+            JsonNode textNode = quote.path("text");
+            String text = textNode.isTextual() ? textNode.asText() : "";
+            if (!text.isBlank()) {
+                values.add(text.trim());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Pulls the optional {@code groups} length ranges ({@code [[min, max], ...]}) out of a payload.
+     */
+    private int[][] extractGroups(JsonNode root) {
+        JsonNode groups = root.path("groups");
+        int[][] ranges = new int[groups.size()][];
+        for (int i = 0; i < groups.size(); i++) {
+            JsonNode group = groups.get(i);
+            ranges[i] = new int[] {group.path(0).asInt(), group.path(1).asInt()};
+        }
+        return ranges;
+    }
+}
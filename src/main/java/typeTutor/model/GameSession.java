@@ -1,53 +1,77 @@
 package typeTutor.model;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
-import javax.swing.Timer;
-
 /**
  * Core game model.
- * Contains typing rules, timer lifecycle, triplet progression, and raw counters.
+ * Contains typing rules, clock-based timing, triplet progression, and raw counters.
  */
 public class GameSession {
-    private static final int STATE_DEFAULT = 0;
-    private static final int STATE_CORRECT = 1;
-    private static final int STATE_WRONG = 2;
+    private static final byte STATE_DEFAULT = 0;
+    private static final byte STATE_CORRECT = 1;
+    private static final byte STATE_WRONG = 2;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // Quote rows never exceed this, so each stays on one line at the default window size (98 columns).
+    private static final int QUOTE_ROW_MAX_CHARS = 72;
+    private static final int QUOTE_ROWS_PER_PAGE = 3;
     // Default mode values used for initial app launch.
     public static final String DEFAULT_WORD_MODE = "Words";
     public static final String DEFAULT_LANGUAGE = "Eng";
     public static final String DEFAULT_TIME_MODE = "60s";
+    public static final String DEFAULT_QUOTE_LENGTH = "All";
 
-    // Dependency that generates text rows based on selected modes.
+    // Dependency that generates text rows based on selected modes,
+    // plus the background worker that prepares the next session's text.
     private final TextGenerator textGenerator;
+    private final SessionPregenerator pregenerator;
+
+    // Seed of the current session's text and the generator seeded with it (used for refills),
+    // so a session's text can be regenerated exactly for replay.
+    private long sessionSeed;
+    private TextGenerator sessionGenerator;
 
     // Active mode selections for current and future resets.
     private String wordMode;
     private String language;
     private String timeMode;
+    private String quoteLength;
 
     // Timer/runtime state flags and base duration.
+    // Elapsed time is derived from clock timestamps; no timer is needed to advance it.
+    private final SessionClock clock;
     private boolean gameRunning;
     private boolean timerStarted;
     private boolean timerPaused;
     private int totalSeconds;
-    private int remainingSeconds;
-    private final Timer sessionTimer;
+    private long startNanos;
+    private long pausedNanos;
+    private long pauseStartNanos;
+    private long endNanos;
 
     // Generated line stream and current active line index.
     private List<String> generatedLines;
     private int currentLineIndex;
 
-    // Quotes mode state: one quote distributed across 3 rows.
-    private List<String> quotePool;
+    // Quotes mode state: one quote split into pages of 3 rows, typed one page at a time.
+    // The pool holds corpus indexes; text is decoded from the mapped store on demand.
+    private QuoteStore quoteStore;
+    private int[] quotePool;
     private int quoteIndex;
+    private List<List<String>> quotePages;
+    private int quotePageIndex;
     private List<String> quoteRows;
 
     // Active target text and typed progress counters.
     private String currentTargetText;
-    private final List<CharacterState> typedCharacters;
+    // Typed buffer as primitive arrays sized to the target text (no per-keystroke objects).
+    private char[] typedChars;
+    private byte[] typedStates;
+    private int typedCount;
     private int cursorIndex;
     private int correctCharacters;
     private int wrongCharacters;
@@ -56,20 +80,48 @@ public class GameSession {
     private char[] lastCompletedTypedChars;
     private int[] lastCompletedCharStates;
 
+    // Result object reused for every input to keep the keystroke path allocation-free.
+    private final InputResult inputResult;
+
+    // Optional binary input log, flushed to this directory when the session is reset.
+    private KeystrokeLog keystrokeLog;
+    private Path keystrokeLogDirectory;
+
     /**
      * Creates session with default modes and generated content.
      */
     public GameSession() {
-        this.textGenerator = new TextGenerator();
+        this(SessionClock.system());
+    }
+
+    /**
+     * Creates session that measures time with the supplied clock.
+     */
+    public GameSession(SessionClock clock) {
+        this(clock, new TextGenerator(), new SessionPregenerator());
+    }
+
+    /**
+     * Creates session with explicit dependencies.
+     * A null pregenerator generates each session's text synchronously, which keeps
+     * seeded generators deterministic and avoids background threads in headless runs.
+     */
+    public GameSession(SessionClock clock, TextGenerator textGenerator, SessionPregenerator pregenerator) {
+        this.clock = clock;
+        this.textGenerator = textGenerator;
+        this.pregenerator = pregenerator;
         this.wordMode = DEFAULT_WORD_MODE;
         this.language = DEFAULT_LANGUAGE;
         this.timeMode = DEFAULT_TIME_MODE;
-        this.sessionTimer = new Timer(1000, e -> onSessionTimerTick());
+        this.quoteLength = DEFAULT_QUOTE_LENGTH;
 
         this.generatedLines = Collections.emptyList();
-        this.quotePool = Collections.emptyList();
+        this.quotePool = new int[0];
+        this.quotePages = Collections.emptyList();
         this.quoteRows = List.of("", "", "");
-        this.typedCharacters = new ArrayList<>();
+        this.typedChars = new char[0];
+        this.typedStates = new byte[0];
+        this.inputResult = new InputResult();
         resetForCurrentOptions();
     }
 
@@ -94,6 +146,13 @@ public class GameSession {
         this.timeMode = normalizeTimeMode(timeMode);
     }
 
+    /**
+     * Updates quote length selection with normalization.
+     */
+    public void setQuoteLength(String quoteLength) {
+        this.quoteLength = normalizeQuoteLength(quoteLength);
+    }
+
     /**
      * Returns selected word mode.
      */
@@ -115,37 +174,165 @@ public class GameSession {
         return timeMode;
     }
 
+    /**
+     * Returns selected quote length.
+     */
+    public String getQuoteLength() {
+        return quoteLength;
+    }
+
     /**
      * Applies navbar selections and fully resets game state.
      */
     public void applyNavbarOptions(String wordMode, String language, String timeMode) {
+        applyNavbarOptions(wordMode, language, timeMode, quoteLength);
+    }
+
+    /**
+     * Applies navbar selections including quote length and fully resets game state.
+     */
+    public void applyNavbarOptions(String wordMode, String language, String timeMode, String quoteLength) {
         setWordMode(wordMode);
         setLanguage(language);
         setTimeMode(timeMode);
+        setQuoteLength(quoteLength);
         resetForCurrentOptions();
     }
 
+    /**
+     * Starts recording every input into an in-memory {@link KeystrokeLog}.
+     */
+    public void enableKeystrokeLog() {
+        if (keystrokeLog == null) {
+            keystrokeLog = new KeystrokeLog();
+            keystrokeLog.begin(sessionSeed, wordMode, language, timeMode, quoteLength);
+        }
+    }
+
+    /**
+     * Records every input and writes each session's log to {@code directory} when the session is reset;
+     * null stops writing files (in-memory recording stays on if it was enabled).
+     */
+    public void setKeystrokeLogDirectory(Path directory) {
+        this.keystrokeLogDirectory = directory;
+        if (directory != null) {
+            enableKeystrokeLog();
+        }
+    }
+
+    /**
+     * Returns the in-memory log of the current session, or null when recording is off.
+     */
+    public KeystrokeLog getKeystrokeLog() {
+        return keystrokeLog;
+    }
+
+    /**
+     * Returns a copy of the current session's log closed with an end record at the current elapsed time,
+     * or null when recording is off or nothing was typed.
+     */
+    public KeystrokeLog snapshotKeystrokeLog() {
+        if (keystrokeLog == null || keystrokeLog.size() == 0) {
+            return null;
+        }
+        KeystrokeLog snapshot = keystrokeLog.copy();
+        snapshot.append(getElapsedNanos(), '\0', '\0', cursorIndex, KeystrokeLog.FLAG_END);
+        return snapshot;
+    }
+
+    /**
+     * Writes the current session's inputs (plus an end record) to the log directory and clears the log.
+     * Returns the written file, or null when no directory is set or nothing was typed.
+     */
+    public Path flushKeystrokeLog() {
+        if (keystrokeLog == null || keystrokeLog.size() == 0) {
+            return null;
+        }
+        if (keystrokeLogDirectory == null) {
+            keystrokeLog.clear();
+            return null;
+        }
+
+        keystrokeLog.append(getElapsedNanos(), '\0', '\0', cursorIndex, KeystrokeLog.FLAG_END);
+        Path file = keystrokeLogDirectory.resolve("session-" + System.currentTimeMillis() + ".ttkl");
+        try {
+            keystrokeLog.writeTo(file);
+            return file;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write keystroke log: " + file, e);
+        } finally {
+            keystrokeLog.clear();
+        }
+    }
+
     /**
      * Regenerates text and clears progress counters for a fresh run.
+     * Uses text pre-generated in the background when it matches the current options.
      */
     public void resetForCurrentOptions() {
+        resetSession(false, 0L);
+    }
+
+    /**
+     * Resets to the exact text a session with {@code seed} and the current options had (used by replay).
+     */
+    public void resetForCurrentOptions(long seed) {
+        resetSession(true, seed);
+    }
+
+    /**
+     * Returns the seed the current session's text was generated from.
+     */
+    public long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    /**
+     * Flushes the previous session's log, then installs pregenerated, freshly seeded, or explicitly seeded text.
+     */
+    private void resetSession(boolean seeded, long seed) {
+        if (keystrokeLog != null) {
+            try {
+                flushKeystrokeLog();
+            } catch (IllegalStateException e) {
+                // A failed log write must not keep the next session from starting; the records are dropped.
+            }
+        }
+
         this.totalSeconds = parseTimeModeSeconds(timeMode);
-        List<String> flattened = flattenTriplets(textGenerator.generateTriplets(wordMode, language, totalSeconds));
+        String contentKey = contentKey();
+        SessionPregenerator.Content content;
+        if (seeded) {
+            // The pending preparation is left running for the next unseeded reset; a seeded reset never waits on it.
+            content = generateContent(seed, wordMode, language, quoteLength, totalSeconds);
+        } else {
+            content = pregenerator == null ? null : pregenerator.take(contentKey);
+            if (content == null) {
+                content = generateContent(textGenerator.nextSeed(), wordMode, language, quoteLength, totalSeconds);
+            }
+        }
+        this.sessionSeed = content.getSeed();
+        this.sessionGenerator = content.getGenerator();
+
         boolean quotesMode = isQuotesMode();
         if (quotesMode) {
-            this.quotePool = flattened;
+            this.quoteStore = textGenerator.quoteStore(language);
+            this.quotePool = content.getQuotePool();
             this.quoteIndex = 0;
             setNextQuoteFromPool();
             this.generatedLines = Collections.emptyList();
             this.currentLineIndex = 0;
         } else {
-            this.generatedLines = flattened;
+            this.generatedLines = content.getGeneratedLines();
             this.currentLineIndex = 0;
-            this.quotePool = Collections.emptyList();
+            this.quoteStore = null;
+            this.quotePool = new int[0];
             this.quoteIndex = 0;
+            this.quotePages = Collections.emptyList();
+            this.quotePageIndex = 0;
             this.quoteRows = List.of("", "", "");
             ensureLineBuffer();
-            this.currentTargetText = getActiveLine();
+            setCurrentTargetText(getActiveLine());
         }
         this.lastCompletedTypedChars = null;
         this.lastCompletedCharStates = null;
@@ -153,22 +340,58 @@ public class GameSession {
         this.gameRunning = true;
         this.timerStarted = false;
         this.timerPaused = false;
-        this.remainingSeconds = totalSeconds;
-        this.sessionTimer.stop();
+        this.startNanos = 0L;
+        this.pausedNanos = 0L;
+        this.pauseStartNanos = 0L;
+        this.endNanos = -1L;
 
-        this.typedCharacters.clear();
+        this.typedCount = 0;
         this.cursorIndex = 0;
         this.correctCharacters = 0;
         this.wrongCharacters = 0;
         this.completedWords = 0;
         this.completedLines = 0;
+        if (keystrokeLog != null) {
+            keystrokeLog.begin(sessionSeed, wordMode, language, timeMode, quoteLength);
+        }
+
+        // Start building the next session's text while this one is typed.
+        if (pregenerator == null) {
+            return;
+        }
+        long nextSeed = textGenerator.nextSeed();
+        String nextWordMode = wordMode;
+        String nextLanguage = language;
+        String nextQuoteLength = quoteLength;
+        int nextSeconds = totalSeconds;
+        pregenerator.prepare(contentKey,
+                () -> generateContent(nextSeed, nextWordMode, nextLanguage, nextQuoteLength, nextSeconds));
     }
 
     /**
-     * Returns remaining countdown seconds.
+     * Returns remaining countdown seconds, rounded up so a fresh session shows its full duration.
      */
     public int getRemainingSeconds() {
-        return Math.max(remainingSeconds, 0);
+        return (int) ((getRemainingNanos() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns remaining countdown time in nanoseconds.
+     */
+    public long getRemainingNanos() {
+        return Math.max(totalNanos() - getElapsedNanos(), 0L);
+    }
+
+    /**
+     * Returns active (unpaused) time since the first keystroke, capped at the session length.
+     */
+    public long getElapsedNanos() {
+        if (!timerStarted) {
+            return 0L;
+        }
+
+        long now = endNanos >= 0 ? endNanos : (timerPaused ? pauseStartNanos : clock.nanoTime());
+        return Math.min(Math.max(now - startNanos - pausedNanos, 0L), totalNanos());
     }
 
     /**
@@ -179,8 +402,9 @@ public class GameSession {
             return false;
         }
 
-        if (getRemainingSeconds() <= 0) {
+        if (timerStarted && getRemainingNanos() <= 0) {
             gameRunning = false;
+            endNanos = startNanos + pausedNanos + totalNanos();
         }
         return gameRunning;
     }
@@ -265,21 +489,23 @@ public class GameSession {
 
     /**
      * Applies one typed character according to game rules.
+     * The returned result is reused by this session; read it before the next input.
      */
     public InputResult processTypedCharacter(char typedChar) {
         if (!isGameRunning()) {
-            return InputResult.gameStopped();
+            return inputResult.gameStopped();
         }
 
         if (!timerStarted) {
             timerStarted = true;
             timerPaused = false;
-            sessionTimer.start();
+            startNanos = clock.nanoTime();
         }
 
         if (currentTargetText.isEmpty()) {
             gameRunning = false;
-            return InputResult.gameStopped();
+            endNanos = clock.nanoTime();
+            return inputResult.gameStopped();
         }
 
         char expectedChar = currentTargetText.charAt(cursorIndex);
@@ -290,7 +516,9 @@ public class GameSession {
             wrongCharacters++;
         }
 
-        typedCharacters.add(new CharacterState(typedChar, correct));
+        typedChars[typedCount] = typedChar;
+        typedStates[typedCount] = correct ? STATE_CORRECT : STATE_WRONG;
+        typedCount++;
         int previousIndex = cursorIndex;
         cursorIndex++;
 
@@ -301,25 +529,35 @@ public class GameSession {
                     : registerCompletedLineAndAdvance();
         }
 
-        return new InputResult(previousIndex, typedChar, expectedChar, correct, false, false, advancedTriplet);
+        if (keystrokeLog != null) {
+            keystrokeLog.append(getElapsedNanos(), typedChar, expectedChar, previousIndex,
+                    (correct ? KeystrokeLog.FLAG_CORRECT : 0) | (advancedTriplet ? KeystrokeLog.FLAG_ADVANCE : 0));
+        }
+        return inputResult.set(previousIndex, typedChar, expectedChar, correct, false, false, advancedTriplet);
     }
 
     /**
      * Processes backspace and reverts cursor/last typed slot.
      * Wrong count intentionally does not decrease after undo, as requested.
+     * The returned result is reused by this session; read it before the next input.
      */
     public InputResult processBackspace() {
-        if (!isGameRunning() || cursorIndex <= 0 || typedCharacters.isEmpty()) {
-            return InputResult.noOpBackspace();
+        if (!isGameRunning() || cursorIndex <= 0 || typedCount == 0) {
+            return inputResult.noOpBackspace();
         }
 
         cursorIndex--;
-        CharacterState removed = typedCharacters.remove(typedCharacters.size() - 1);
-        if (removed.correct) {
+        typedCount--;
+        if (typedStates[typedCount] == STATE_CORRECT) {
             correctCharacters = Math.max(0, correctCharacters - 1);
         }
 
-        return new InputResult(cursorIndex, '\0', currentTargetText.charAt(cursorIndex), false, true, false, false);
+        if (keystrokeLog != null) {
+            keystrokeLog.append(getElapsedNanos(), '\0', currentTargetText.charAt(cursorIndex), cursorIndex,
+                    KeystrokeLog.FLAG_BACKSPACE);
+        }
+
+        return inputResult.set(cursorIndex, '\0', currentTargetText.charAt(cursorIndex), false, true, false, false);
     }
 
     /**
@@ -346,7 +584,7 @@ public class GameSession {
         }
 
         timerPaused = true;
-        sessionTimer.stop();
+        pauseStartNanos = clock.nanoTime();
     }
 
     /**
@@ -358,26 +596,48 @@ public class GameSession {
         }
 
         timerPaused = false;
-        if (gameRunning && remainingSeconds > 0) {
-            sessionTimer.start();
-        }
+        pausedNanos += clock.nanoTime() - pauseStartNanos;
     }
 
     /**
-     * Calculates WPM using conventional 5 chars per word.
+     * Calculates WPM using conventional 5 chars per word over the measured active time.
      */
     private double calculateWpm() {
-        if (!timerStarted) {
+        long elapsedNanos = getElapsedNanos();
+        if (elapsedNanos <= 0) {
             return 0.0;
         }
 
-        int elapsedSeconds = totalSeconds - getRemainingSeconds();
-        if (elapsedSeconds <= 0) {
-            return 0.0;
+        double elapsedMinutes = elapsedNanos / (60.0 * NANOS_PER_SECOND);
+        return (correctCharacters / 5.0) / elapsedMinutes;
+    }
+
+    /**
+     * Returns the configured session length in nanoseconds.
+     */
+    private long totalNanos() {
+        return totalSeconds * NANOS_PER_SECOND;
+    }
+
+    /**
+     * Generates one session's text for the given options. Safe to call off the EDT.
+     */
+    private SessionPregenerator.Content generateContent(
+            long seed, String wordMode, String language, String quoteLength, int seconds) {
+        TextGenerator generator = textGenerator.withSeed(seed);
+        if ("Quotes".equalsIgnoreCase(wordMode)) {
+            return new SessionPregenerator.Content(
+                    null, generator.generateQuoteIndexes(language, quoteLength, seconds), seed, generator);
         }
+        return new SessionPregenerator.Content(
+                flattenTriplets(generator.generateTriplets(wordMode, language, seconds)), null, seed, generator);
+    }
 
-        double elapsedMinutes = elapsedSeconds / 60.0;
-        return (correctCharacters / 5.0) / elapsedMinutes;
+    /**
+     * Identifies the options that generated content depends on.
+     */
+    private String contentKey() {
+        return wordMode + '|' + language + '|' + quoteLength + '|' + totalSeconds;
     }
 
     /**
@@ -397,7 +657,7 @@ public class GameSession {
     private void ensureLineBuffer() {
         int requiredIndex = currentLineIndex + 1;
         while (requiredIndex >= generatedLines.size()) {
-            generatedLines.addAll(flattenTriplets(textGenerator.generateTriplets(wordMode, language, totalSeconds)));
+            generatedLines.addAll(flattenTriplets(sessionGenerator.generateTriplets(wordMode, language, totalSeconds)));
         }
     }
 
@@ -437,69 +697,112 @@ public class GameSession {
 
         currentLineIndex += 1;
         ensureLineBuffer();
-        currentTargetText = getActiveLine();
-        typedCharacters.clear();
+        setCurrentTargetText(getActiveLine());
+        typedCount = 0;
         cursorIndex = 0;
         return true;
     }
 
+    /**
+     * Registers a completed quote page and shows the quote's next page, or the next quote after its last page.
+     */
     private boolean registerCompletedQuoteAndAdvance() {
-        // Count the whole quote as 3 visible rows worth of progress.
-        String quoteText = String.join(" ", quoteRows).trim();
-        completedWords += countWords(quoteText);
-        completedLines += 3;
+        // Count the page's visible rows as progress.
+        for (String row : quoteRows) {
+            if (!row.isEmpty()) {
+                completedWords += countWords(row);
+                completedLines++;
+            }
+        }
         lastCompletedTypedChars = null;
         lastCompletedCharStates = null;
 
-        quoteIndex += 1;
-        setNextQuoteFromPool();
-        typedCharacters.clear();
+        quotePageIndex++;
+        if (quotePageIndex < quotePages.size()) {
+            showQuotePage();
+        } else {
+            quoteIndex += 1;
+            setNextQuoteFromPool();
+        }
+        typedCount = 0;
         cursorIndex = 0;
         return true;
     }
 
+    /**
+     * Decodes the next pooled quote and shows its first page, refilling the pool when it runs out.
+     */
     private void setNextQuoteFromPool() {
-        if (quotePool == null || quotePool.isEmpty()) {
-            quotePool = flattenTriplets(textGenerator.generateTriplets(wordMode, language, totalSeconds));
-            quoteIndex = 0;
+        if (quoteStore == null) {
+            quoteStore = textGenerator.quoteStore(language);
         }
 
-        if (quoteIndex >= quotePool.size()) {
-            quotePool = flattenTriplets(textGenerator.generateTriplets(wordMode, language, totalSeconds));
+        if (quotePool == null || quoteIndex >= quotePool.length) {
+            quotePool = sessionGenerator.generateQuoteIndexes(language, quoteLength, totalSeconds);
             quoteIndex = 0;
         }
 
-        String quote = quotePool.get(quoteIndex);
-        quoteRows = splitQuoteIntoRows(quote);
-        currentTargetText = joinTripletRows(quoteRows);
+        String quote = quotePool.length == 0 ? "" : quoteStore.get(quotePool[quoteIndex]);
+        quotePages = splitQuoteIntoPages(quote);
+        quotePageIndex = 0;
+        showQuotePage();
+    }
+
+    /**
+     * Makes the current page the visible rows and the target text.
+     */
+    private void showQuotePage() {
+        quoteRows = quotePages.get(quotePageIndex);
+        setCurrentTargetText(joinTripletRows(quoteRows));
     }
 
-    private List<String> splitQuoteIntoRows(String quote) {
+    /**
+     * Splits a quote into pages of 3 rows. Rows are balanced to about the same length and capped at
+     * {@value #QUOTE_ROW_MAX_CHARS} chars, so short quotes fill one page and long ones continue on further pages.
+     * Unused rows on the last page are empty.
+     */
+    private List<List<String>> splitQuoteIntoPages(String quote) {
         if (quote == null || quote.isBlank()) {
-            return List.of("", "", "");
+            return List.of(List.of("", "", ""));
         }
 
         String[] words = quote.trim().split("\\s+");
-        StringBuilder r1 = new StringBuilder();
-        StringBuilder r2 = new StringBuilder();
-        StringBuilder r3 = new StringBuilder();
-
         int totalLen = quote.length();
-        int target = Math.max(20, totalLen / 3);
-        int which = 0;
+        int pageCount = Math.max(1, (totalLen + QUOTE_ROW_MAX_CHARS * QUOTE_ROWS_PER_PAGE - 1)
+                / (QUOTE_ROW_MAX_CHARS * QUOTE_ROWS_PER_PAGE));
+        int target = Math.max(20, totalLen / (pageCount * QUOTE_ROWS_PER_PAGE));
+
+        List<String> rows = new ArrayList<>();
+        StringBuilder row = new StringBuilder();
         for (String w : words) {
-            StringBuilder row = which == 0 ? r1 : which == 1 ? r2 : r3;
+            // A word that would overflow the cap starts the next row (an overlong word gets a row to itself).
+            if (row.length() > 0 && row.length() + 1 + w.length() > QUOTE_ROW_MAX_CHARS) {
+                rows.add(row.toString());
+                row.setLength(0);
+            }
             if (row.length() > 0) {
                 row.append(' ');
             }
             row.append(w);
 
-            if (which < 2 && row.length() >= target) {
-                which++;
+            if (row.length() >= target) {
+                rows.add(row.toString());
+                row.setLength(0);
             }
         }
+        if (row.length() > 0) {
+            rows.add(row.toString());
+        }
 
-        return List.of(r1.toString(), r2.toString(), r3.toString());
+        List<List<String>> pages = new ArrayList<>();
+        for (int first = 0; first < rows.size(); first += QUOTE_ROWS_PER_PAGE) {
+            List<String> page = new ArrayList<>(QUOTE_ROWS_PER_PAGE);
+            for (int i = first; i < first + QUOTE_ROWS_PER_PAGE; i++) {
+                page.add(i < rows.size() ? rows.get(i) : "");
+            }
+            pages.add(List.copyOf(page));
+        }
+        return pages;
     }
 
     private String joinTripletRows(List<String> rows) {
@@ -507,12 +810,16 @@ public class GameSession {
             return "";
         }
 
+        // Empty trailing rows (the end of a quote's last page) add no separator to type.
         StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < rows.size(); i++) {
-            if (i > 0) {
+        for (String row : rows) {
+            if (row.isEmpty()) {
+                continue;
+            }
+            if (builder.length() > 0) {
                 builder.append(' ');
             }
-            builder.append(rows.get(i));
+            builder.append(row);
         }
         return builder.toString();
     }
@@ -525,7 +832,7 @@ public class GameSession {
         }
 
         int length = completedLineText.length();
-        if (typedCharacters.size() < length) {
+        if (typedCount < length) {
             // Defensive: if something is off, render the expected line in default gray.
             lastCompletedTypedChars = completedLineText.toCharArray();
             lastCompletedCharStates = new int[length];
@@ -534,10 +841,20 @@ public class GameSession {
 
         lastCompletedTypedChars = new char[length];
         lastCompletedCharStates = new int[length];
+        System.arraycopy(typedChars, 0, lastCompletedTypedChars, 0, length);
         for (int i = 0; i < length; i++) {
-            CharacterState state = typedCharacters.get(i);
-            lastCompletedTypedChars[i] = state.typed;
-            lastCompletedCharStates[i] = state.correct ? STATE_CORRECT : STATE_WRONG;
+            lastCompletedCharStates[i] = typedStates[i];
+        }
+    }
+
+    /**
+     * Switches the active target text and grows the typed buffers if it is longer than any before.
+     */
+    private void setCurrentTargetText(String text) {
+        currentTargetText = text;
+        if (typedChars.length < text.length()) {
+            typedChars = new char[text.length()];
+            typedStates = new byte[text.length()];
         }
     }
 
@@ -555,22 +872,6 @@ public class GameSession {
         return "Quotes".equalsIgnoreCase(wordMode);
     }
 
-    /**
-     * Advances the countdown by one second.
-     */
-    private void onSessionTimerTick() {
-        if (!gameRunning || timerPaused) {
-            sessionTimer.stop();
-            return;
-        }
-
-        remainingSeconds = Math.max(remainingSeconds - 1, 0);
-        if (remainingSeconds <= 0) {
-            gameRunning = false;
-            sessionTimer.stop();
-        }
-    }
-
     /**
      * Converts time mode labels (e.g. "60s") to integer seconds.
      */
@@ -619,6 +920,24 @@ public class GameSession {
         return normalized.startsWith("fil") ? "Fil" : "Eng";
     }
 
+    /**
+     * Normalizes quote length input into expected display token.
+     */
+    private String normalizeQuoteLength(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_QUOTE_LENGTH;
+        }
+
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "short" -> "Short";
+            case "medium" -> "Medium";
+            case "long" -> "Long";
+            case "thicc" -> "Thicc";
+            default -> DEFAULT_QUOTE_LENGTH;
+        };
+    }
+
     /**
      * Normalizes time mode input into expected display token.
      */
@@ -638,39 +957,30 @@ public class GameSession {
     }
 
     /**
-     * Tracks each typed input and whether it matched target.
+     * Outcome of one input action.
+     * Each session reuses a single instance, so callers must read it before the next input.
      */
-    private static class CharacterState {
-        // Raw typed character and correctness marker.
-        private final char typed;
-        private final boolean correct;
+    public static class InputResult {
+        // Cursor index, typed/expected chars, and action metadata.
+        private int index;
+        private char typedChar;
+        private char expectedChar;
+        private boolean correct;
+        private boolean backspace;
+        private boolean gameStopped;
+        private boolean tripletAdvanced;
 
         /**
-         * Creates one typed-character state record.
+         * Creates an empty result; filled in by {@link #set}.
          */
-        CharacterState(char typed, boolean correct) {
-            this.typed = typed;
-            this.correct = correct;
+        InputResult() {
+            this.index = -1;
         }
-    }
-
-    /**
-     * Immutable outcome of one input action.
-     */
-    public static class InputResult {
-        // Cursor index, typed/expected chars, and action metadata.
-        private final int index;
-        private final char typedChar;
-        private final char expectedChar;
-        private final boolean correct;
-        private final boolean backspace;
-        private final boolean gameStopped;
-        private final boolean tripletAdvanced;
 
         /**
-         * Builds full input result payload.
+         * Overwrites this result with a full input payload.
          */
-        InputResult(
+        InputResult set(
                 int index,
                 char typedChar,
                 char expectedChar,
@@ -685,20 +995,21 @@ public class GameSession {
             this.backspace = backspace;
             this.gameStopped = gameStopped;
             this.tripletAdvanced = tripletAdvanced;
+            return this;
         }
 
         /**
-         * Factory for stopped-session result.
+         * Fills this result as a stopped-session result.
          */
-        static InputResult gameStopped() {
-            return new InputResult(-1, '\0', '\0', false, false, true, false);
+        InputResult gameStopped() {
+            return set(-1, '\0', '\0', false, false, true, false);
         }
 
         /**
-         * Factory for ignored/no-op backspace result.
+         * Fills this result as an ignored/no-op backspace result.
          */
-        static InputResult noOpBackspace() {
-            return new InputResult(-1, '\0', '\0', false, true, false, false);
+        InputResult noOpBackspace() {
+            return set(-1, '\0', '\0', false, true, false, false);
         }
 
         /**
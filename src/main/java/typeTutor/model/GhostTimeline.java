@@ -0,0 +1,115 @@
+package typeTutor.model;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed position-over-time of a recorded run, used to animate a ghost caret.
+ * Built once by replaying a {@link KeystrokeLog}; lookups are a binary search over primitive arrays,
+ * so the ghost can be sampled every display frame instead of being driven by per-character timers.
+ */
+public class GhostTimeline {
+    // One point per applied record: active time, line segment (completed lines) and cursor after it,
+    // and whether that record moved the cursor forward (typed char rather than backspace).
+    private final long[] timesNanos;
+    private final int[] segments;
+    private final int[] cursors;
+    private final boolean[] forward;
+    private final int size;
+
+    /**
+     * Stores timeline arrays of equal length.
+     */
+    private GhostTimeline(long[] timesNanos, int[] segments, int[] cursors, boolean[] forward, int size) {
+        this.timesNanos = timesNanos;
+        this.segments = segments;
+        this.cursors = cursors;
+        this.forward = forward;
+        this.size = size;
+    }
+
+    /**
+     * Replays {@code log} and records where the cursor was after every input.
+     */
+    public static GhostTimeline fromLog(KeystrokeLog log, TextGenerator textGenerator) {
+        ReplayEngine replay = new ReplayEngine(log, textGenerator);
+        GameSession session = replay.getSession();
+        int capacity = log.size();
+        long[] times = new long[capacity];
+        int[] segments = new int[capacity];
+        int[] cursors = new int[capacity];
+        boolean[] forward = new boolean[capacity];
+
+        int size = 0;
+        for (int record = 0; record < log.size(); record++) {
+            int flags = log.flags(record);
+            long appliedAt = replay.step();
+            if ((flags & KeystrokeLog.FLAG_END) != 0) {
+                continue;
+            }
+            times[size] = appliedAt;
+            segments[size] = session.getCompletedLines();
+            cursors[size] = session.getCursorIndex();
+            forward[size] = (flags & KeystrokeLog.FLAG_BACKSPACE) == 0;
+            size++;
+        }
+        return new GhostTimeline(times, segments, cursors, forward, size);
+    }
+
+    /**
+     * Returns the number of timeline points.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ghost's line segment (its completed-lines count) at {@code elapsedNanos}.
+     */
+    public int segmentAt(long elapsedNanos) {
+        int point = pointAt(elapsedNanos);
+        return point < 0 ? 0 : segments[point];
+    }
+
+    /**
+     * Returns the ghost's cursor at {@code elapsedNanos}, interpolated between keystrokes so it glides
+     * toward the next char while the next recorded input moves forward within the same segment.
+     */
+    public float cursorAt(long elapsedNanos) {
+        int point = pointAt(elapsedNanos);
+        if (point < 0) {
+            return 0f;
+        }
+
+        int next = point + 1;
+        if (next >= size || !forward[next] || timesNanos[next] <= timesNanos[point]) {
+            return cursors[point];
+        }
+        boolean sameSegment = segments[next] == segments[point];
+        if (sameSegment && cursors[next] != cursors[point] + 1) {
+            return cursors[point];
+        }
+
+        // A line-completing keystroke glides to the end of the line, then the ghost jumps to the next one.
+        float fraction = (float) (elapsedNanos - timesNanos[point]) / (timesNanos[next] - timesNanos[point]);
+        return cursors[point] + Math.min(1f, fraction);
+    }
+
+    /**
+     * Returns the index of the last point at or before {@code elapsedNanos}, or -1 before the first.
+     */
+    private int pointAt(long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            // The run has not started yet (the first keystroke starts the clock).
+            return -1;
+        }
+        int found = Arrays.binarySearch(timesNanos, 0, size, elapsedNanos);
+        if (found >= 0) {
+            // Several records can share a timestamp; use the last of them.
+            while (found + 1 < size && timesNanos[found + 1] == elapsedNanos) {
+                found++;
+            }
+            return found;
+        }
+        return -found - 2;
+    }
+}
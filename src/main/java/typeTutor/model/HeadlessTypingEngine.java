@@ -0,0 +1,99 @@
+package typeTutor.model;
+
+import java.util.Random;
+
+/**
+ * Runs {@link GameSession} without Swing against a {@link VirtualClock}.
+ * Intended for bulk replay, scoring experiments, and load tests.
+ */
+public class HeadlessTypingEngine {
+    // Virtual time source and the session it drives.
+    private final VirtualClock clock;
+    private final GameSession session;
+
+    /**
+     * Creates an engine whose generated text is fully determined by {@code seed}.
+     */
+    public HeadlessTypingEngine(long seed) {
+        this.clock = new VirtualClock();
+        this.session = new GameSession(clock, new TextGenerator(new Random(seed)), null);
+    }
+
+    /**
+     * Returns the virtual clock; advance it to let time pass between inputs.
+     */
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the driven session.
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * Applies navbar-style options and resets the session.
+     */
+    public void configure(String wordMode, String language, String timeMode, String quoteLength) {
+        session.applyNavbarOptions(wordMode, language, timeMode, quoteLength);
+    }
+
+    /**
+     * Types one character at virtual time {@code atNanos}.
+     */
+    public GameSession.InputResult typeAt(long atNanos, char typedChar) {
+        clock.advanceTo(atNanos);
+        return session.processTypedCharacter(typedChar);
+    }
+
+    /**
+     * Presses backspace at virtual time {@code atNanos}.
+     */
+    public GameSession.InputResult backspaceAt(long atNanos) {
+        clock.advanceTo(atNanos);
+        return session.processBackspace();
+    }
+
+    /**
+     * Simulates a typist that hits one key every {@code intervalNanos}, mistyping with probability
+     * {@code errorRate} and immediately correcting each mistake with backspace. The last char of a line or
+     * quote page is always typed correctly: a wrong char there would complete the line, and backspace cannot
+     * return to a completed line. Stops early when the session ends; returns the number of keys pressed.
+     */
+    public long simulate(long keystrokes, long intervalNanos, double errorRate, Random random) {
+        long pressed = 0;
+        while (pressed < keystrokes && session.isGameRunning()) {
+            String target = session.getCurrentTargetText();
+            int cursor = session.getCursorIndex();
+            if (target.isEmpty() || cursor >= target.length()) {
+                break;
+            }
+
+            char expected = target.charAt(cursor);
+            clock.advance(intervalNanos);
+            pressed++;
+            boolean lastChar = cursor == target.length() - 1;
+            if (random.nextDouble() < errorRate && !lastChar) {
+                session.processTypedCharacter(expected == 'x' ? 'y' : 'x');
+                if (pressed >= keystrokes || !session.isGameRunning()) {
+                    break;
+                }
+                clock.advance(intervalNanos);
+                pressed++;
+                session.processBackspace();
+                continue;
+            }
+            session.processTypedCharacter(expected);
+        }
+        return pressed;
+    }
+
+    /**
+     * Returns the session's stats at the current virtual time.
+     */
+    public TypingStats getStats() {
+        return session.getTypingStats();
+    }
+}
@@ -0,0 +1,284 @@
+package typeTutor.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only log of one session's inputs as fixed-width binary records in a growable off-heap buffer.
+ * Appending writes 16 bytes into a direct buffer and never allocates (except when the buffer doubles).
+ *
+ * <p>File layout (big-endian): magic "TTKL", int version, int record count, long text seed, then word mode,
+ * language, time mode and quote length as length-prefixed UTF-8 strings, then the records. Each record is
+ * {@code long deltaNanos, char typed, char expected, short index, byte flags, byte reserved}, where the
+ * delta is active session time since the previous record (the first record is relative to session start).
+ */
+public class KeystrokeLog {
+    public static final int MAGIC = 0x54544B4C;
+    public static final int VERSION = 2;
+    public static final int RECORD_BYTES = 16;
+
+    // Record flags.
+    public static final int FLAG_CORRECT = 1;
+    public static final int FLAG_BACKSPACE = 1 << 1;
+    public static final int FLAG_ADVANCE = 1 << 2;
+    public static final int FLAG_END = 1 << 3;
+
+    private static final int INITIAL_RECORDS = 1024;
+    private static final int FIXED_HEADER_BYTES = 20;
+
+    // Record storage and the active time of the last appended record.
+    private ByteBuffer records;
+    private int recordCount;
+    private long lastElapsedNanos;
+
+    // Session seed and options written to the file header.
+    private long seed;
+    private String wordMode;
+    private String language;
+    private String timeMode;
+    private String quoteLength;
+
+    /**
+     * Creates an empty log with room for about a thousand inputs.
+     */
+    public KeystrokeLog() {
+        this.records = ByteBuffer.allocateDirect(INITIAL_RECORDS * RECORD_BYTES).order(ByteOrder.BIG_ENDIAN);
+        this.wordMode = "";
+        this.language = "";
+        this.timeMode = "";
+        this.quoteLength = "";
+    }
+
+    /**
+     * Clears the log and stores the text seed and options of the session about to be recorded.
+     */
+    public void begin(long seed, String wordMode, String language, String timeMode, String quoteLength) {
+        clear();
+        this.seed = seed;
+        this.wordMode = wordMode;
+        this.language = language;
+        this.timeMode = timeMode;
+        this.quoteLength = quoteLength;
+    }
+
+    /**
+     * Drops all records, keeping the buffer for reuse.
+     */
+    public void clear() {
+        records.clear();
+        recordCount = 0;
+        lastElapsedNanos = 0L;
+    }
+
+    /**
+     * Appends one input observed at {@code elapsedNanos} of active session time.
+     */
+    public void append(long elapsedNanos, char typedChar, char expectedChar, int index, int flags) {
+        if (records.remaining() < RECORD_BYTES) {
+            grow();
+        }
+        records.putLong(elapsedNanos - lastElapsedNanos);
+        records.putChar(typedChar);
+        records.putChar(expectedChar);
+        records.putShort((short) index);
+        records.put((byte) flags);
+        records.put((byte) 0);
+        lastElapsedNanos = elapsedNanos;
+        recordCount++;
+    }
+
+    /**
+     * Returns an independent copy of the header and records.
+     */
+    public KeystrokeLog copy() {
+        KeystrokeLog copy = new KeystrokeLog();
+        copy.begin(seed, wordMode, language, timeMode, quoteLength);
+        if (copy.records.capacity() < records.position()) {
+            copy.records = ByteBuffer.allocateDirect(records.capacity()).order(ByteOrder.BIG_ENDIAN);
+        }
+        ByteBuffer source = records.duplicate();
+        source.flip();
+        copy.records.put(source);
+        copy.recordCount = recordCount;
+        copy.lastElapsedNanos = lastElapsedNanos;
+        return copy;
+    }
+
+    /**
+     * Returns the number of records.
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the active-time delta of record {@code i} from the previous record.
+     */
+    public long deltaNanos(int i) {
+        return records.getLong(recordOffset(i));
+    }
+
+    /**
+     * Returns the typed char of record {@code i} ({@code '\0'} for backspace and end records).
+     */
+    public char typedChar(int i) {
+        return records.getChar(recordOffset(i) + 8);
+    }
+
+    /**
+     * Returns the expected char of record {@code i}.
+     */
+    public char expectedChar(int i) {
+        return records.getChar(recordOffset(i) + 10);
+    }
+
+    /**
+     * Returns the cursor index record {@code i} applied to.
+     */
+    public int index(int i) {
+        return records.getShort(recordOffset(i) + 12) & 0xFFFF;
+    }
+
+    /**
+     * Returns the flags of record {@code i}.
+     */
+    public int flags(int i) {
+        return records.get(recordOffset(i) + 14) & 0xFF;
+    }
+
+    /**
+     * Returns the seed the recorded session's text was generated from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the recorded word mode.
+     */
+    public String getWordMode() {
+        return wordMode;
+    }
+
+    /**
+     * Returns the recorded language.
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Returns the recorded time mode.
+     */
+    public String getTimeMode() {
+        return timeMode;
+    }
+
+    /**
+     * Returns the recorded quote length.
+     */
+    public String getQuoteLength() {
+        return quoteLength;
+    }
+
+    /**
+     * Writes the header and all records to {@code file}, replacing it.
+     */
+    public void writeTo(Path file) throws IOException {
+        byte[][] strings = {
+                wordMode.getBytes(StandardCharsets.UTF_8),
+                language.getBytes(StandardCharsets.UTF_8),
+                timeMode.getBytes(StandardCharsets.UTF_8),
+                quoteLength.getBytes(StandardCharsets.UTF_8)};
+        int headerBytes = FIXED_HEADER_BYTES;
+        for (byte[] value : strings) {
+            headerBytes += 2 + value.length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerBytes).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(recordCount).putLong(seed);
+        for (byte[] value : strings) {
+            header.putShort((short) value.length).put(value);
+        }
+        header.flip();
+
+        ByteBuffer body = records.duplicate();
+        body.flip();
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+    }
+
+    /**
+     * Loads a log written by {@link #writeTo(Path)}.
+     */
+    public static KeystrokeLog read(Path file) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.BIG_ENDIAN);
+        if (data.remaining() < FIXED_HEADER_BYTES || data.getInt() != MAGIC) {
+            throw new IOException("Not a keystroke log: " + file);
+        }
+        int version = data.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported keystroke log version " + version + ": " + file);
+        }
+
+        int count = data.getInt();
+        KeystrokeLog log = new KeystrokeLog();
+        log.begin(data.getLong(), readString(data), readString(data), readString(data), readString(data));
+        if (count < 0 || data.remaining() != count * RECORD_BYTES) {
+            throw new IOException("Truncated keystroke log: " + file);
+        }
+
+        log.records = ByteBuffer.allocateDirect(Math.max(count, INITIAL_RECORDS) * RECORD_BYTES)
+                .order(ByteOrder.BIG_ENDIAN);
+        log.records.put(data);
+        log.recordCount = count;
+        return log;
+    }
+
+    /**
+     * Reads one length-prefixed UTF-8 header string.
+     */
+    private static String readString(ByteBuffer data) {
+        byte[] bytes = new byte[data.getShort() & 0xFFFF];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Doubles the off-heap buffer, copying existing records.
+     */
+    private void grow() {
+        ByteBuffer grown = ByteBuffer.allocateDirect(records.capacity() * 2).order(ByteOrder.BIG_ENDIAN);
+        records.flip();
+        grown.put(records);
+        records = grown;
+    }
+
+    /**
+     * Returns the byte offset of record {@code i}.
+     */
+    private int recordOffset(int i) {
+        if (i < 0 || i >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + i + " out of " + recordCount);
+        }
+        return i * RECORD_BYTES;
+    }
+}
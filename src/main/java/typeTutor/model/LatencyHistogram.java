@@ -0,0 +1,136 @@
+package typeTutor.model;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of nanosecond durations.
+ * Each power of two is split into 16 buckets, so percentiles are within ~6% of the recorded value;
+ * recording is a few arithmetic ops and never allocates.
+ */
+public class LatencyHistogram {
+    // Bucket layout: 16 linear sub-buckets per power of two, values capped at 2^40 ns (~18 min).
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKABLE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE) + 1;
+
+    // Bucket counts and exact extremes.
+    private final long[] counts;
+    private long totalCount;
+    private long maxValue;
+    private long sum;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records one duration in nanoseconds; negative values count as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE));
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the largest recorded value (exact).
+     */
+    public long getMax() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the mean recorded value, or 0 when empty.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the value at {@code percentile} (0..100), reported as the upper bound of its bucket
+     * and never above the recorded max.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(totalCount * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(maxValue, bucketUpperBound(bucket));
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the number of buckets (for dumping the raw distribution).
+     */
+    public int bucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Returns the count stored in one bucket.
+     */
+    public long bucketValueCount(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Returns the smallest value that falls into {@code bucket}.
+     */
+    public static long bucketLowerBound(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Returns the largest value that falls into {@code bucket}.
+     */
+    public static long bucketUpperBound(int bucket) {
+        return bucketLowerBound(bucket + 1) - 1;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxValue = 0;
+        sum = 0;
+    }
+
+    /**
+     * Maps a value to its bucket: values below 32 are exact, larger ones keep their top 5 bits.
+     */
+    private static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+}
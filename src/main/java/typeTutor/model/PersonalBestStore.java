@@ -0,0 +1,104 @@
+package typeTutor.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the best recorded run per mode combination, used as the ghost in race mode.
+ * Runs are kept as keystroke logs and, when a directory is given, saved there as one .ttkl file per combination.
+ */
+public class PersonalBestStore {
+    private static final String FILE_SUFFIX = ".ttkl";
+
+    // Optional backing directory and the loaded bests with their replayed scores.
+    private final Path directory;
+    private final Map<String, KeystrokeLog> bests;
+    private final Map<String, Double> scores;
+
+    /**
+     * Creates a store backed by {@code directory}, or memory-only when it is null.
+     */
+    public PersonalBestStore(Path directory) {
+        this.directory = directory;
+        this.bests = new HashMap<>();
+        this.scores = new HashMap<>();
+    }
+
+    /**
+     * Builds the lookup key for one mode combination.
+     */
+    public static String key(String wordMode, String language, String timeMode, String quoteLength) {
+        return wordMode + "-" + language + "-" + timeMode + "-" + quoteLength;
+    }
+
+    /**
+     * Returns the best run for {@code key}, loading it from disk on first use, or null when there is none.
+     */
+    public KeystrokeLog get(String key) {
+        if (!bests.containsKey(key)) {
+            load(key);
+        }
+        return bests.get(key);
+    }
+
+    /**
+     * Keeps {@code log} as the new best for {@code key} if its replayed final score beats the current best.
+     * Scoring by replay, as for saved bests, keeps wall-clock jitter of the live run out of the comparison.
+     * Returns whether it was kept.
+     */
+    public boolean offer(String key, KeystrokeLog log) {
+        KeystrokeLog current = get(key);
+        double score = replayScore(log);
+        if (current != null && scores.get(key) >= score) {
+            return false;
+        }
+
+        bests.put(key, log);
+        scores.put(key, score);
+        if (directory != null) {
+            Path file = fileFor(key);
+            try {
+                log.writeTo(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to save personal best: " + file, e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads and scores the saved best for {@code key}; unreadable files are treated as missing.
+     */
+    private void load(String key) {
+        bests.put(key, null);
+        if (directory == null || !Files.isRegularFile(fileFor(key))) {
+            return;
+        }
+
+        try {
+            KeystrokeLog log = KeystrokeLog.read(fileFor(key));
+            double score = replayScore(log);
+            bests.put(key, log);
+            scores.put(key, score);
+        } catch (IOException | IllegalStateException e) {
+            // A stale or corrupt best just means there is no ghost until the next good run.
+        }
+    }
+
+    /**
+     * Replays {@code log} to its end and returns the final score it produces.
+     */
+    private static double replayScore(KeystrokeLog log) {
+        return new ReplayEngine(log).runToEnd().getFinalScore();
+    }
+
+    /**
+     * Returns the file that stores the best for {@code key}.
+     */
+    private Path fileFor(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9-]", "_") + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,82 @@
+package typeTutor.model;
+
+import java.util.Random;
+
+/**
+ * Index from declared quote length group to the quote indexes in that group.
+ * Built once per corpus so length-filtered sampling is O(1) per pick.
+ */
+public final class QuoteLengthIndex {
+    // Fallback groups (short/medium/long/thicc) for corpora that do not declare any.
+    private static final int[][] DEFAULT_GROUPS = {{0, 100}, {101, 300}, {301, 600}, {601, 9999}};
+
+    // Group ranges and the corpus indexes that fall into each group.
+    private final int[][] groups;
+    private final int[][] buckets;
+
+    /**
+     * Scans the store's stored char lengths once and buckets every quote.
+     */
+    public QuoteLengthIndex(QuoteStore store) {
+        int[][] declared = store.groups();
+        this.groups = declared.length > 0 ? declared : DEFAULT_GROUPS;
+
+        int[] counts = new int[groups.length];
+        for (int i = 0; i < store.size(); i++) {
+            int bucket = bucketForLength(store.charLength(i));
+            if (bucket >= 0) {
+                counts[bucket]++;
+            }
+        }
+
+        this.buckets = new int[groups.length][];
+        for (int bucket = 0; bucket < groups.length; bucket++) {
+            buckets[bucket] = new int[counts[bucket]];
+        }
+
+        int[] fill = new int[groups.length];
+        for (int i = 0; i < store.size(); i++) {
+            int bucket = bucketForLength(store.charLength(i));
+            if (bucket >= 0) {
+                buckets[bucket][fill[bucket]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of length groups.
+     */
+    public int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Returns how many quotes fall into one group (0 for unknown groups).
+     */
+    public int bucketSize(int bucket) {
+        return bucket >= 0 && bucket < buckets.length ? buckets[bucket].length : 0;
+    }
+
+    /**
+     * Picks a random quote index from one group, or -1 when the group is empty.
+     */
+    public int sample(int bucket, Random random) {
+        int size = bucketSize(bucket);
+        if (size == 0) {
+            return -1;
+        }
+        return buckets[bucket][random.nextInt(size)];
+    }
+
+    /**
+     * Returns the group containing {@code length}, or -1 when no group covers it.
+     */
+    public int bucketForLength(int length) {
+        for (int bucket = 0; bucket < groups.length; bucket++) {
+            if (length >= groups[bucket][0] && length <= groups[bucket][1]) {
+                return bucket;
+            }
+        }
+        return -1;
+    }
+}
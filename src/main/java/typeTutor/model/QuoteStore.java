@@ -0,0 +1,205 @@
+package typeTutor.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.jar.JarEntry;
+
+/**
+ * Read-only quote corpus backed by a memory-mapped {@link BinaryCorpus} file.
+ * Quote text is decoded only when requested, so heap use does not grow with corpus size.
+ */
+public final class QuoteStore {
+    private static final int MAX_SAMPLE_ATTEMPTS = 64;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    // Mapped corpus bytes, entry count, and where the offset table starts.
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int tableStart;
+
+    /**
+     * Wraps and validates a corpus buffer.
+     */
+    private QuoteStore(ByteBuffer buffer) {
+        this.size = BinaryCorpus.validateHeader(buffer);
+        this.buffer = buffer;
+        this.tableStart = BinaryCorpus.offsetTableStart(buffer);
+    }
+
+    /**
+     * Memory-maps one binary corpus file.
+     */
+    public static QuoteStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            return new QuoteStore(mapped);
+        }
+    }
+
+    /**
+     * Maps a classpath corpus, extracting it to this user's cache directory first when it lives inside a jar.
+     * Extracted files are reused only when their name matches the entry's size and CRC32; resources without
+     * a known checksum are extracted to a fresh temp file per launch. Returns null when the resource does not exist.
+     */
+    public static QuoteStore openResource(String path) throws IOException {
+        URL url = QuoteStore.class.getResource(path);
+        if (url == null) {
+            return null;
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return open(Paths.get(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid corpus location: " + url, e);
+            }
+        }
+
+        URLConnection connection = url.openConnection();
+        String fileName = path.substring(1).replace('/', '_');
+        Path directory = cacheDirectory();
+        long crc = -1;
+        long size = -1;
+        if (connection instanceof JarURLConnection jarConnection) {
+            JarEntry entry = jarConnection.getJarEntry();
+            crc = entry.getCrc();
+            size = entry.getSize();
+        }
+
+        // Jar entries record their CRC32, so the cache name identifies the content without reading it.
+        Path cached = crc < 0 || size < 0 ? null
+                : directory.resolve(size + "-" + Long.toHexString(crc) + "-" + fileName);
+        if (cached == null || !Files.isRegularFile(cached) || Files.size(cached) != size) {
+            Path temp = Files.createTempFile(directory, fileName, ".tmp");
+            // Writing into the owner-only temp file keeps its permissions (copying with REPLACE_EXISTING would not).
+            try (InputStream stream = connection.getInputStream(); OutputStream out = Files.newOutputStream(temp)) {
+                stream.transferTo(out);
+            }
+            if (cached == null) {
+                temp.toFile().deleteOnExit();
+                return open(temp);
+            }
+            Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return open(cached);
+    }
+
+    /**
+     * Writes already-parsed quotes to a cache file and maps it (used when no build-time corpus exists).
+     */
+    public static QuoteStore fromValues(String name, List<String> values) throws IOException {
+        Path file = Files.createTempFile(cacheDirectory(), name, ".bin");
+        file.toFile().deleteOnExit();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            BinaryCorpus.write(values, out);
+        }
+        return open(file);
+    }
+
+    /**
+     * Returns the number of quotes in the corpus.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Decodes one quote.
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Quote index " + index + " out of " + size);
+        }
+        int offset = BinaryCorpus.entryOffset(buffer, tableStart, index);
+        int length = BinaryCorpus.entryByteLength(buffer, offset);
+        byte[] bytes = new byte[length];
+        buffer.get(offset + BinaryCorpus.ENTRY_HEADER_BYTES, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the char length of one quote without decoding it.
+     */
+    public int charLength(int index) {
+        return BinaryCorpus.entryCharLength(buffer, BinaryCorpus.entryOffset(buffer, tableStart, index));
+    }
+
+    /**
+     * Returns the length groups declared by the source corpus as {min, max} pairs.
+     */
+    public int[][] groups() {
+        return BinaryCorpus.readGroups(buffer);
+    }
+
+    /**
+     * Returns whether quote {@code index} has at most {@code maxChars} chars.
+     */
+    public boolean fitsWithin(int index, int maxChars) {
+        return charLength(index) <= maxChars;
+    }
+
+    /**
+     * Picks a random quote index, preferring quotes of at most {@code maxChars} chars.
+     * Falls back to an unfiltered pick when no short quote is found after a bounded number of tries.
+     */
+    public int sampleIndex(Random random, int maxChars) {
+        if (size == 0) {
+            return -1;
+        }
+        for (int attempt = 0; attempt < MAX_SAMPLE_ATTEMPTS; attempt++) {
+            int candidate = random.nextInt(size);
+            if (fitsWithin(candidate, maxChars)) {
+                return candidate;
+            }
+        }
+        return random.nextInt(size);
+    }
+
+    /**
+     * Returns this user's directory for extracted corpus files, creating it owner-only where POSIX permissions
+     * exist. If another account already owns the shared path, a fresh private temp directory is used instead.
+     */
+    private static Path cacheDirectory() throws IOException {
+        Path directory = Paths.get(System.getProperty("java.io.tmpdir"),
+                "typeTuto-" + System.getProperty("user.name"), "corpus");
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (!posix) {
+            return Files.createDirectories(directory);
+        }
+
+        Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        UserPrincipal self = FileSystems.getDefault().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        for (Path part = directory; !part.equals(directory.getParent().getParent()); part = part.getParent()) {
+            if (!Files.getOwner(part, LinkOption.NOFOLLOW_LINKS).equals(self)) {
+                return Files.createTempDirectory("typeTuto-corpus");
+            }
+        }
+        Files.setPosixFilePermissions(directory, OWNER_ONLY);
+        return directory;
+    }
+}
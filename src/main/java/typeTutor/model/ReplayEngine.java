@@ -0,0 +1,181 @@
+package typeTutor.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Re-executes a recorded {@link KeystrokeLog} through a fresh {@link GameSession}.
+ * The session regenerates the recorded text from the logged seed and runs on a {@link VirtualClock}
+ * set to each record's active time, so the final {@link TypingStats} match the original exactly
+ * whether the replay is paced in real time, sped up, or run as fast as possible.
+ */
+public class ReplayEngine {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    // Recorded input and the session it is replayed into.
+    private final KeystrokeLog log;
+    private final VirtualClock clock;
+    private final GameSession session;
+
+    // Next record to apply and its active session time.
+    private int nextRecord;
+    private long nextRecordNanos;
+
+    /**
+     * Prepares a replay using the shared corpora.
+     */
+    public ReplayEngine(KeystrokeLog log) {
+        this(log, new TextGenerator());
+    }
+
+    /**
+     * Prepares a replay whose text is regenerated with {@code textGenerator}'s corpora.
+     */
+    public ReplayEngine(KeystrokeLog log, TextGenerator textGenerator) {
+        this.log = log;
+        this.clock = new VirtualClock();
+        this.session = new GameSession(clock, textGenerator, null);
+        session.setWordMode(log.getWordMode());
+        session.setLanguage(log.getLanguage());
+        session.setTimeMode(log.getTimeMode());
+        session.setQuoteLength(log.getQuoteLength());
+        session.resetForCurrentOptions(log.getSeed());
+        this.nextRecord = 0;
+        // The first input starts the session timer, so it is always applied at time zero.
+        this.nextRecordNanos = 0L;
+    }
+
+    /**
+     * Returns the session being replayed into (read its state to render a replay).
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * Returns the active session time covered by the log.
+     */
+    public long getDurationNanos() {
+        long total = 0L;
+        for (int i = 1; i < log.size(); i++) {
+            total += log.deltaNanos(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the replay position in active session time.
+     */
+    public long getPositionNanos() {
+        return clock.nanoTime();
+    }
+
+    /**
+     * Returns whether every record has been applied.
+     */
+    public boolean isFinished() {
+        return nextRecord >= log.size();
+    }
+
+    /**
+     * Applies exactly the next record and returns the active session time it was applied at.
+     */
+    public long step() {
+        if (isFinished()) {
+            throw new IllegalStateException("Replay already finished");
+        }
+        long appliedAt = nextRecordNanos;
+        clock.advanceTo(appliedAt);
+        apply(nextRecord);
+        nextRecord++;
+        if (nextRecord < log.size()) {
+            nextRecordNanos += log.deltaNanos(nextRecord);
+        }
+        return appliedAt;
+    }
+
+    /**
+     * Applies every record up to {@code elapsedNanos} of active session time.
+     */
+    public void advanceTo(long elapsedNanos) {
+        while (!isFinished() && nextRecordNanos <= elapsedNanos) {
+            step();
+        }
+        clock.advanceTo(Math.min(elapsedNanos, nextRecordNanos));
+    }
+
+    /**
+     * Replays as fast as possible and returns the final stats.
+     */
+    public TypingStats runToEnd() {
+        advanceTo(Long.MAX_VALUE);
+        return session.getTypingStats();
+    }
+
+    /**
+     * Replays in wall-clock time scaled by {@code speed} (1 = real time, 10 = ten times faster),
+     * blocking the calling thread, and returns the final stats.
+     */
+    public TypingStats runPaced(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Replay speed must be positive: " + speed);
+        }
+
+        long wallStart = System.nanoTime();
+        while (!isFinished()) {
+            long replayNow = (long) ((System.nanoTime() - wallStart) * speed);
+            if (replayNow < nextRecordNanos) {
+                LockSupport.parkNanos(Math.min((long) ((nextRecordNanos - replayNow) / speed), NANOS_PER_MILLI * 50));
+                continue;
+            }
+            advanceTo(replayNow);
+        }
+        return session.getTypingStats();
+    }
+
+    /**
+     * Feeds one record into the session and checks it lands where it did originally.
+     */
+    private void apply(int record) {
+        int flags = log.flags(record);
+        if ((flags & KeystrokeLog.FLAG_END) != 0) {
+            return;
+        }
+
+        GameSession.InputResult result = (flags & KeystrokeLog.FLAG_BACKSPACE) != 0
+                ? session.processBackspace()
+                : session.processTypedCharacter(log.typedChar(record));
+        if (result.isGameStopped() || result.getIndex() != log.index(record)
+                || result.getExpectedChar() != log.expectedChar(record)) {
+            throw new IllegalStateException("Replay diverged from the log at record " + record);
+        }
+    }
+
+    /**
+     * Usage: {@code ReplayEngine <log file or directory>...}; prints the replayed stats of every .ttkl log.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: ReplayEngine <log file or directory>...");
+        }
+
+        TextGenerator textGenerator = new TextGenerator();
+        for (String arg : args) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(Paths.get(arg))) {
+                files = walk.filter(path -> path.toString().endsWith(".ttkl")).sorted().toList();
+            }
+            for (Path file : files) {
+                TypingStats stats = new ReplayEngine(KeystrokeLog.read(file), textGenerator).runToEnd();
+                System.out.println(String.format(Locale.ROOT, "%s wpm=%.2f accuracy=%.2f score=%.2f rank=%s",
+                        file, stats.getWpm(), stats.getAccuracyPercent(), stats.getFinalScore(), stats.getRank()));
+            }
+        }
+    }
+}
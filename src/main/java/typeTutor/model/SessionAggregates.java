@@ -0,0 +1,160 @@
+package typeTutor.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Running statistics over a set of sessions, updated in O(1) per session.
+ * WPM mean and variance use Welford's online algorithm; percentiles come from a fixed 1-WPM-wide histogram,
+ * so they are approximate to within one WPM. Streaks count consecutive local calendar days with a session.
+ */
+public class SessionAggregates {
+    // WPM histogram: one bucket per whole WPM, the last bucket holds everything faster.
+    private static final int MAX_TRACKED_WPM = 250;
+
+    // Welford state.
+    private long count;
+    private double meanWpm;
+    private double sumSquaredDeviations;
+
+    // Bests.
+    private double bestWpm;
+    private double bestScore;
+
+    // Daily streaks (epoch day of the latest session, or Long.MIN_VALUE before the first).
+    private long lastDay;
+    private int currentStreakDays;
+    private int longestStreakDays;
+
+    // WPM distribution.
+    private final int[] wpmBuckets;
+
+    /**
+     * Creates empty aggregates.
+     */
+    public SessionAggregates() {
+        this.lastDay = Long.MIN_VALUE;
+        this.wpmBuckets = new int[MAX_TRACKED_WPM + 1];
+    }
+
+    /**
+     * Adds one session that ended at {@code endedAtMillis}; sessions are expected in time order.
+     */
+    public void record(double wpm, double finalScore, long endedAtMillis) {
+        count++;
+        double delta = wpm - meanWpm;
+        meanWpm += delta / count;
+        sumSquaredDeviations += delta * (wpm - meanWpm);
+
+        bestWpm = Math.max(bestWpm, wpm);
+        bestScore = Math.max(bestScore, finalScore);
+
+        long day = LocalDate.ofInstant(Instant.ofEpochMilli(endedAtMillis), ZoneId.systemDefault()).toEpochDay();
+        if (day != lastDay) {
+            currentStreakDays = day == lastDay + 1 ? currentStreakDays + 1 : 1;
+            lastDay = day;
+            longestStreakDays = Math.max(longestStreakDays, currentStreakDays);
+        }
+
+        int bucket = (int) Math.min(MAX_TRACKED_WPM, Math.max(0, Math.floor(wpm)));
+        wpmBuckets[bucket]++;
+    }
+
+    /**
+     * Returns the number of sessions.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean WPM, or 0 with no sessions.
+     */
+    public double getMeanWpm() {
+        return meanWpm;
+    }
+
+    /**
+     * Returns the sample variance of WPM, or 0 with fewer than two sessions.
+     */
+    public double getWpmVariance() {
+        return count < 2 ? 0.0 : sumSquaredDeviations / (count - 1);
+    }
+
+    /**
+     * Returns the sample standard deviation of WPM.
+     */
+    public double getWpmStandardDeviation() {
+        return Math.sqrt(getWpmVariance());
+    }
+
+    /**
+     * Returns the highest WPM.
+     */
+    public double getBestWpm() {
+        return bestWpm;
+    }
+
+    /**
+     * Returns the highest final score.
+     */
+    public double getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Returns the streak of consecutive days ending with the latest session's day.
+     */
+    public int getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    /**
+     * Returns the streak still alive on {@code today}: it survives until a full day passes without a session.
+     */
+    public int getStreakDaysAsOf(LocalDate today) {
+        return lastDay >= today.toEpochDay() - 1 ? currentStreakDays : 0;
+    }
+
+    /**
+     * Returns the longest streak of consecutive days with at least one session.
+     */
+    public int getLongestStreakDays() {
+        return longestStreakDays;
+    }
+
+    /**
+     * Returns the local epoch day of the latest session, or {@code Long.MIN_VALUE} with no sessions.
+     */
+    public long getLastSessionDay() {
+        return lastDay;
+    }
+
+    /**
+     * Returns the approximate WPM at {@code percentile} (0..100), interpolated within its 1-WPM bucket.
+     */
+    public double wpmAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be 0..100: " + percentile);
+        }
+
+        double rank = percentile / 100.0 * count;
+        long seen = 0;
+        for (int bucket = 0; bucket < wpmBuckets.length; bucket++) {
+            int inBucket = wpmBuckets[bucket];
+            if (inBucket > 0 && seen + inBucket >= rank) {
+                if (bucket == MAX_TRACKED_WPM) {
+                    // The overflow bucket has no upper edge; report the fastest session.
+                    return bestWpm;
+                }
+                return bucket + Math.max(0.0, rank - seen) / inBucket;
+            }
+            seen += inBucket;
+        }
+        return bestWpm;
+    }
+}
@@ -0,0 +1,20 @@
+package typeTutor.model;
+
+/**
+ * Monotonic time source used by the game model.
+ * Injectable so sessions can run against a virtual clock instead of wall time.
+ */
+@FunctionalInterface
+public interface SessionClock {
+    /**
+     * Returns the current monotonic time in nanoseconds (only differences are meaningful).
+     */
+    long nanoTime();
+
+    /**
+     * Returns the clock backed by {@link System#nanoTime()}.
+     */
+    static SessionClock system() {
+        return System::nanoTime;
+    }
+}
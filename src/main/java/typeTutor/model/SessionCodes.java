@@ -0,0 +1,99 @@
+package typeTutor.model;
+
+/**
+ * Byte codes for the mode, language, time and rank labels stored in session history records.
+ * Codes are table indexes, so labels may only ever be appended to these tables.
+ */
+public final class SessionCodes {
+    // Code used for labels missing from a table (read back as "?").
+    public static final int UNKNOWN = 0xFF;
+    private static final String UNKNOWN_LABEL = "?";
+
+    // Label tables; a label's code is its index.
+    private static final String[] WORD_MODES = {"Words", "Numbers", "Quotes"};
+    private static final String[] LANGUAGES = {"Eng", "Fil"};
+    private static final String[] TIME_MODES = {"15s", "30s", "60s", "120s"};
+    private static final String[] RANKS = {
+            "S+ (Elite)", "S (Expert)", "A (Advanced)", "B (Intermediate)", "C (Beginner)", "D", "F"};
+
+    /**
+     * Not instantiable.
+     */
+    private SessionCodes() {
+    }
+
+    /**
+     * Returns the code of a word mode label.
+     */
+    public static int wordModeCode(String wordMode) {
+        return encode(WORD_MODES, wordMode);
+    }
+
+    /**
+     * Returns the word mode label of a code.
+     */
+    public static String wordMode(int code) {
+        return decode(WORD_MODES, code);
+    }
+
+    /**
+     * Returns the code of a language label.
+     */
+    public static int languageCode(String language) {
+        return encode(LANGUAGES, language);
+    }
+
+    /**
+     * Returns the language label of a code.
+     */
+    public static String language(int code) {
+        return decode(LANGUAGES, code);
+    }
+
+    /**
+     * Returns the code of a time mode label.
+     */
+    public static int timeModeCode(String timeMode) {
+        return encode(TIME_MODES, timeMode);
+    }
+
+    /**
+     * Returns the time mode label of a code.
+     */
+    public static String timeMode(int code) {
+        return decode(TIME_MODES, code);
+    }
+
+    /**
+     * Returns the code of a rank label.
+     */
+    public static int rankCode(String rank) {
+        return encode(RANKS, rank);
+    }
+
+    /**
+     * Returns the rank label of a code.
+     */
+    public static String rank(int code) {
+        return decode(RANKS, code);
+    }
+
+    /**
+     * Returns the index of {@code label} in {@code table}, or {@link #UNKNOWN}.
+     */
+    private static int encode(String[] table, String label) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].equals(label)) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the label at {@code code}, or "?" for unknown codes.
+     */
+    private static String decode(String[] table, int code) {
+        return code >= 0 && code < table.length ? table[code] : UNKNOWN_LABEL;
+    }
+}
@@ -0,0 +1,318 @@
+package typeTutor.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of fixed-size session records, memory-mapped for reads.
+ * Appending is one positional write of a reused 32-byte buffer; opening maps the file instead of parsing it,
+ * and drops a torn or corrupt tail left by a crash (each record carries a CRC32 of its payload).
+ * The file is held under an exclusive lock while open, so two app instances sharing a home directory
+ * never append over each other's records; the second one fails to open it.
+ *
+ * <p>File layout (big-endian): magic "TTSH", int version, int record size, int reserved, then records of
+ * {@code long epochMillis, float wpm, float accuracy, float finalScore, byte wordMode, byte language,
+ * byte timeMode, byte rank, int reserved, int crc32} with labels stored as {@link SessionCodes}.
+ */
+public class SessionHistoryStore implements AutoCloseable {
+    public static final int MAGIC = 0x54545348;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int RECORD_BYTES = 32;
+    private static final int PAYLOAD_BYTES = RECORD_BYTES - 4;
+
+    // Files open in this JVM. File locks are per process, and closing any channel to a file can drop the
+    // process's lock on it, so a second store on the same file must be refused before opening a channel.
+    private static final Set<Path> OPEN_FILES = ConcurrentHashMap.newKeySet();
+
+    // Open file, its read mapping (may lag behind appends until remapped), and the valid record count.
+    private final Path file;
+    private final Path openKey;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private MappedByteBuffer mapped;
+    private int mappedRecords;
+    private int recordCount;
+
+    // Reused append buffer and checksum.
+    private final ByteBuffer appendBuffer;
+    private final CRC32 crc;
+
+    /**
+     * Opens or creates the history file, truncating any incomplete or corrupt trailing records.
+     * Fails when another process (or another store in this JVM) has the file open.
+     */
+    public SessionHistoryStore(Path file) throws IOException {
+        this.file = file;
+        this.openKey = file.toAbsolutePath().normalize();
+        Path parent = openKey.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (!OPEN_FILES.add(openKey)) {
+            throw new IOException("Session history is already open: " + file);
+        }
+        this.appendBuffer = ByteBuffer.allocate(RECORD_BYTES).order(ByteOrder.BIG_ENDIAN);
+        this.crc = new CRC32();
+
+        FileChannel opened = null;
+        try {
+            opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.channel = opened;
+            this.lock = lockOrFail();
+            openRecords();
+        } catch (IOException e) {
+            if (opened != null) {
+                opened.close();
+            }
+            OPEN_FILES.remove(openKey);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the backing file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of stored sessions.
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Appends one session record.
+     */
+    public void append(long epochMillis, float wpm, float accuracy, float finalScore,
+            int wordModeCode, int languageCode, int timeModeCode, int rankCode) throws IOException {
+        appendBuffer.clear();
+        appendBuffer.putLong(epochMillis)
+                .putFloat(wpm)
+                .putFloat(accuracy)
+                .putFloat(finalScore)
+                .put((byte) wordModeCode)
+                .put((byte) languageCode)
+                .put((byte) timeModeCode)
+                .put((byte) rankCode)
+                .putInt(0);
+        crc.reset();
+        crc.update(appendBuffer.array(), 0, PAYLOAD_BYTES);
+        appendBuffer.putInt((int) crc.getValue());
+        appendBuffer.flip();
+
+        long position = HEADER_BYTES + (long) recordCount * RECORD_BYTES;
+        while (appendBuffer.hasRemaining()) {
+            position += channel.write(appendBuffer, position);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Returns a read-only view of every record in file order, for sequential bulk loading.
+     */
+    public ByteBuffer records() {
+        if (recordCount > 0) {
+            record(recordCount - 1);
+        }
+        return mapped.asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Returns the session end time of record {@code i} in epoch millis.
+     */
+    public long epochMillis(int i) {
+        return record(i).getLong(offset(i));
+    }
+
+    /**
+     * Returns the WPM of record {@code i}.
+     */
+    public float wpm(int i) {
+        return record(i).getFloat(offset(i) + 8);
+    }
+
+    /**
+     * Returns the accuracy percent of record {@code i}.
+     */
+    public float accuracy(int i) {
+        return record(i).getFloat(offset(i) + 12);
+    }
+
+    /**
+     * Returns the final score of record {@code i}.
+     */
+    public float finalScore(int i) {
+        return record(i).getFloat(offset(i) + 16);
+    }
+
+    /**
+     * Returns the word mode code of record {@code i}.
+     */
+    public int wordModeCode(int i) {
+        return record(i).get(offset(i) + 20) & 0xFF;
+    }
+
+    /**
+     * Returns the language code of record {@code i}.
+     */
+    public int languageCode(int i) {
+        return record(i).get(offset(i) + 21) & 0xFF;
+    }
+
+    /**
+     * Returns the time mode code of record {@code i}.
+     */
+    public int timeModeCode(int i) {
+        return record(i).get(offset(i) + 22) & 0xFF;
+    }
+
+    /**
+     * Returns the rank code of record {@code i}.
+     */
+    public int rankCode(int i) {
+        return record(i).get(offset(i) + 23) & 0xFF;
+    }
+
+    /**
+     * Releases the lock and closes the file; written records are already in the OS page cache.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (lock.isValid()) {
+                lock.release();
+            }
+        } finally {
+            channel.close();
+            OPEN_FILES.remove(openKey);
+        }
+    }
+
+    /**
+     * Takes an exclusive lock on the whole file without waiting.
+     */
+    private FileLock lockOrFail() throws IOException {
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            throw new IOException("Session history is in use by another instance: " + file);
+        }
+        return acquired;
+    }
+
+    /**
+     * Validates or writes the header, then finds the last intact record and cuts everything after it.
+     */
+    private void openRecords() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).putInt(0).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            fileSize = HEADER_BYTES;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Keep reading until the header is complete or the file ends.
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Not a session history file: " + file);
+        }
+        int version = header.getInt();
+        if (version != VERSION || header.getInt() != RECORD_BYTES) {
+            throw new IOException("Unsupported session history version " + version + ": " + file);
+        }
+
+        long completeRecords = (fileSize - HEADER_BYTES) / RECORD_BYTES;
+        if (completeRecords > Integer.MAX_VALUE / RECORD_BYTES) {
+            throw new IOException("Session history too large: " + file);
+        }
+        recordCount = (int) completeRecords;
+
+        // Only the tail can be torn: an append-only file is never rewritten in the middle.
+        while (recordCount > 0 && !isIntact(recordCount - 1)) {
+            recordCount--;
+        }
+        long validSize = HEADER_BYTES + (long) recordCount * RECORD_BYTES;
+        if (validSize != fileSize) {
+            // Truncate before mapping; some platforms refuse to shrink a mapped file.
+            channel.truncate(validSize);
+            channel.force(false);
+        }
+        remap();
+    }
+
+    /**
+     * Returns whether record {@code i}'s stored checksum matches its payload.
+     */
+    private boolean isIntact(int i) throws IOException {
+        ByteBuffer stored = appendBuffer;
+        stored.clear();
+        long position = HEADER_BYTES + (long) i * RECORD_BYTES;
+        while (stored.hasRemaining() && channel.read(stored, position + stored.position()) >= 0) {
+            // Keep reading until the record is complete.
+        }
+        if (stored.hasRemaining()) {
+            return false;
+        }
+        crc.reset();
+        crc.update(stored.array(), 0, PAYLOAD_BYTES);
+        return stored.getInt(PAYLOAD_BYTES) == (int) crc.getValue();
+    }
+
+    /**
+     * Returns a mapping that covers record {@code i}, remapping after appends.
+     */
+    private ByteBuffer record(int i) {
+        if (i < 0 || i >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + i + " out of " + recordCount);
+        }
+        if (i >= mappedRecords) {
+            try {
+                remap();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to map session history: " + file, e);
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Maps every current record read-only.
+     */
+    private void remap() throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) recordCount * RECORD_BYTES);
+        mapped.order(ByteOrder.BIG_ENDIAN);
+        mappedRecords = recordCount;
+    }
+
+    /**
+     * Returns the byte offset of record {@code i} within the mapping.
+     */
+    private static int offset(int i) {
+        return i * RECORD_BYTES;
+    }
+}
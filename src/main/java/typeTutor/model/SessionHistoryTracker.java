@@ -1,100 +1,249 @@
 package typeTutor.model;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Stores the history of completed typing sessions.
+ * Stores the history of completed typing sessions, optionally persisted in a {@link SessionHistoryStore}.
+ * Sessions are held in primitive columns (about 24 bytes each) with labels as {@link SessionCodes};
+ * timestamps and labels are turned into display text only when read.
+ * {@link SessionAggregates} for all sessions and per mode/language/time combination are kept up to date
+ * as sessions are recorded, so summaries never rescan the history.
  */
-public class SessionHistoryTracker {
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+public class SessionHistoryTracker implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 64;
 
-    private final List<Entry> entries;
+    // Durable record store, or null to keep this run's sessions in memory only.
+    private final SessionHistoryStore store;
+
+    // One column per field, indexed oldest first.
+    private long[] endedAtMillis;
+    private float[] wpms;
+    private float[] accuracies;
+    private float[] finalScores;
+    private byte[] wordModes;
+    private byte[] languages;
+    private byte[] timeModes;
+    private byte[] ranks;
+    private int size;
+
+    // Running aggregates, overall and keyed by combination (see {@link #combinationKey}).
+    private final SessionAggregates overall;
+    private final Map<Integer, SessionAggregates> byCombination;
 
     /**
-     * Creates an empty history tracker.
+     * Creates an empty in-memory history tracker.
      */
     public SessionHistoryTracker() {
-        this.entries = new ArrayList<>();
+        this.store = null;
+        this.overall = new SessionAggregates();
+        this.byCombination = new HashMap<>();
+        allocateColumns(INITIAL_CAPACITY);
     }
 
     /**
-     * Records one completed session.
+     * Creates a tracker backed by the history file at {@code file}, loading stored sessions into the columns.
      */
-    public void recordSession(TypingStats stats) {
-        entries.add(new Entry(
-                FORMATTER.format(LocalDateTime.now()),
-                stats.getWpm(),
-                stats.getAccuracyPercent(),
-                stats.getRank(),
-                stats.getTimeMode(),
-                stats.getLanguage(),
-                stats.getWordMode()));
-    }
-
-    /**
-     * Returns an immutable snapshot of the recorded sessions, newest first.
-     */
-    public List<Entry> getEntries() {
-        List<Entry> copy = new ArrayList<>(entries);
-        Collections.reverse(copy);
-        return Collections.unmodifiableList(copy);
-    }
-
-    /**
-     * Immutable history entry for one session.
-     */
-    public static class Entry {
-        private final String timestamp;
-        private final double wpm;
-        private final double accuracy;
-        private final String rank;
-        private final String timeMode;
-        private final String language;
-        private final String wordMode;
-
-        /**
-         * Stores entry details.
-         */
-        public Entry(String timestamp, double wpm, double accuracy, String rank, String timeMode, String language, String wordMode) {
-            this.timestamp = timestamp;
-            this.wpm = wpm;
-            this.accuracy = accuracy;
-            this.rank = rank;
-            this.timeMode = timeMode;
-            this.language = language;
-            this.wordMode = wordMode;
+    public SessionHistoryTracker(Path file) throws IOException {
+        this.store = new SessionHistoryStore(file);
+        this.overall = new SessionAggregates();
+        this.byCombination = new HashMap<>();
+        allocateColumns(Math.max(INITIAL_CAPACITY, store.size()));
+        ByteBuffer records = store.records();
+        for (int i = 0; i < store.size(); i++) {
+            endedAtMillis[i] = records.getLong();
+            wpms[i] = records.getFloat();
+            accuracies[i] = records.getFloat();
+            finalScores[i] = records.getFloat();
+            wordModes[i] = records.get();
+            languages[i] = records.get();
+            timeModes[i] = records.get();
+            ranks[i] = records.get();
+            // Skip the reserved int and checksum.
+            records.position(records.position() + 8);
+            aggregate(i);
         }
+        this.size = store.size();
+    }
 
-        public String getTimestamp() {
-            return timestamp;
+    /**
+     * Closes the backing store, if any; later sessions fail to record (callers treat history as best-effort).
+     */
+    @Override
+    public void close() throws IOException {
+        if (store != null) {
+            store.close();
         }
+    }
 
-        public double getWpm() {
-            return wpm;
+    /**
+     * Records one completed session.
+     */
+    public void recordSession(TypingStats stats) {
+        if (size == endedAtMillis.length) {
+            growColumns();
         }
+        int i = size;
+        endedAtMillis[i] = System.currentTimeMillis();
+        wpms[i] = (float) stats.getWpm();
+        accuracies[i] = (float) stats.getAccuracyPercent();
+        finalScores[i] = (float) stats.getFinalScore();
+        wordModes[i] = (byte) SessionCodes.wordModeCode(stats.getWordMode());
+        languages[i] = (byte) SessionCodes.languageCode(stats.getLanguage());
+        timeModes[i] = (byte) SessionCodes.timeModeCode(stats.getTimeMode());
+        ranks[i] = (byte) SessionCodes.rankCode(stats.getRank());
+        size++;
+        aggregate(i);
 
-        public double getAccuracy() {
-            return accuracy;
+        if (store == null) {
+            return;
         }
-
-        public String getRank() {
-            return rank;
+        try {
+            store.append(endedAtMillis[i], wpms[i], accuracies[i], finalScores[i],
+                    wordModes[i] & 0xFF, languages[i] & 0xFF, timeModes[i] & 0xFF, ranks[i] & 0xFF);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to record session: " + store.getFile(), e);
         }
+    }
 
-        public String getTimeMode() {
-            return timeMode;
-        }
+    /**
+     * Returns the number of recorded sessions.
+     */
+    public int size() {
+        return size;
+    }
 
-        public String getLanguage() {
-            return language;
-        }
+    /**
+     * Returns when session {@code i} (oldest first) ended, in epoch millis.
+     */
+    public long getEndedAtMillis(int i) {
+        return endedAtMillis[checkIndex(i)];
+    }
+
+    /**
+     * Returns the WPM of session {@code i}.
+     */
+    public float getWpm(int i) {
+        return wpms[checkIndex(i)];
+    }
+
+    /**
+     * Returns the accuracy percent of session {@code i}.
+     */
+    public float getAccuracy(int i) {
+        return accuracies[checkIndex(i)];
+    }
+
+    /**
+     * Returns the final score of session {@code i}.
+     */
+    public float getFinalScore(int i) {
+        return finalScores[checkIndex(i)];
+    }
+
+    /**
+     * Returns the word mode label of session {@code i}.
+     */
+    public String getWordMode(int i) {
+        return SessionCodes.wordMode(wordModes[checkIndex(i)] & 0xFF);
+    }
 
-        public String getWordMode() {
-            return wordMode;
+    /**
+     * Returns the language label of session {@code i}.
+     */
+    public String getLanguage(int i) {
+        return SessionCodes.language(languages[checkIndex(i)] & 0xFF);
+    }
+
+    /**
+     * Returns the time mode label of session {@code i}.
+     */
+    public String getTimeMode(int i) {
+        return SessionCodes.timeMode(timeModes[checkIndex(i)] & 0xFF);
+    }
+
+    /**
+     * Returns the rank label of session {@code i}.
+     */
+    public String getRank(int i) {
+        return SessionCodes.rank(ranks[checkIndex(i)] & 0xFF);
+    }
+
+    /**
+     * Returns the aggregates over every recorded session.
+     */
+    public SessionAggregates getAggregates() {
+        return overall;
+    }
+
+    /**
+     * Returns the aggregates of one mode/language/time combination (empty if it was never played).
+     */
+    public SessionAggregates getAggregates(String wordMode, String language, String timeMode) {
+        SessionAggregates aggregates = byCombination.get(combinationKey(
+                SessionCodes.wordModeCode(wordMode),
+                SessionCodes.languageCode(language),
+                SessionCodes.timeModeCode(timeMode)));
+        return aggregates == null ? new SessionAggregates() : aggregates;
+    }
+
+    /**
+     * Folds session {@code i} into the overall and per-combination aggregates.
+     */
+    private void aggregate(int i) {
+        overall.record(wpms[i], finalScores[i], endedAtMillis[i]);
+        int key = combinationKey(wordModes[i] & 0xFF, languages[i] & 0xFF, timeModes[i] & 0xFF);
+        byCombination.computeIfAbsent(key, ignored -> new SessionAggregates())
+                .record(wpms[i], finalScores[i], endedAtMillis[i]);
+    }
+
+    /**
+     * Packs three label codes into one map key.
+     */
+    private static int combinationKey(int wordModeCode, int languageCode, int timeModeCode) {
+        return (wordModeCode << 16) | (languageCode << 8) | timeModeCode;
+    }
+
+    /**
+     * Allocates empty columns with room for {@code capacity} sessions.
+     */
+    private void allocateColumns(int capacity) {
+        endedAtMillis = new long[capacity];
+        wpms = new float[capacity];
+        accuracies = new float[capacity];
+        finalScores = new float[capacity];
+        wordModes = new byte[capacity];
+        languages = new byte[capacity];
+        timeModes = new byte[capacity];
+        ranks = new byte[capacity];
+    }
+
+    /**
+     * Doubles every column.
+     */
+    private void growColumns() {
+        int capacity = endedAtMillis.length * 2;
+        endedAtMillis = Arrays.copyOf(endedAtMillis, capacity);
+        wpms = Arrays.copyOf(wpms, capacity);
+        accuracies = Arrays.copyOf(accuracies, capacity);
+        finalScores = Arrays.copyOf(finalScores, capacity);
+        wordModes = Arrays.copyOf(wordModes, capacity);
+        languages = Arrays.copyOf(languages, capacity);
+        timeModes = Arrays.copyOf(timeModes, capacity);
+        ranks = Arrays.copyOf(ranks, capacity);
+    }
+
+    /**
+     * Returns {@code i} if it names a recorded session.
+     */
+    private int checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Session " + i + " out of " + size);
         }
+        return i;
     }
 }
@@ -0,0 +1,143 @@
+package typeTutor.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds the next session's text on a background thread while the current session is being typed.
+ * A reset then only swaps in the prepared content instead of generating it on the EDT.
+ */
+public class SessionPregenerator {
+    // Single daemon worker and the one outstanding preparation.
+    private final ExecutorService executor;
+    private String pendingKey;
+    private Future<Content> pending;
+
+    /**
+     * Creates a pregenerator with its own daemon worker thread.
+     */
+    public SessionPregenerator() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "typeTuto-pregenerator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts preparing content for {@code key} unless the same key is already pending.
+     */
+    public void prepare(String key, Callable<Content> task) {
+        if (pending != null && key.equals(pendingKey)) {
+            return;
+        }
+
+        cancelPending();
+        pendingKey = key;
+        pending = executor.submit(task);
+    }
+
+    /**
+     * Hands over prepared content for {@code key}, or null when nothing usable was prepared.
+     * Content prepared for other options is discarded.
+     */
+    public Content take(String key) {
+        if (pending == null) {
+            return null;
+        }
+
+        Future<Content> future = pending;
+        boolean matches = key.equals(pendingKey);
+        pending = null;
+        pendingKey = null;
+        if (!matches) {
+            future.cancel(true);
+            return null;
+        }
+
+        try {
+            // Usually already done; otherwise waiting beats redoing the same work.
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Drops any outstanding preparation.
+     */
+    public void cancelPending() {
+        if (pending != null) {
+            pending.cancel(true);
+        }
+        pending = null;
+        pendingKey = null;
+    }
+
+    /**
+     * Stops the worker thread.
+     */
+    public void shutdown() {
+        cancelPending();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Generated text for one session: word/number lines or quote corpus indexes, plus the seeded
+     * generator that produced them so the session can keep drawing from the same sequence.
+     * Each instance is handed to exactly one session, which then owns the mutable line list.
+     */
+    public static class Content {
+        private final List<String> generatedLines;
+        private final int[] quotePool;
+        private final long seed;
+        private final TextGenerator generator;
+
+        /**
+         * Stores prepared session text.
+         */
+        public Content(List<String> generatedLines, int[] quotePool, long seed, TextGenerator generator) {
+            this.generatedLines = generatedLines == null ? Collections.emptyList() : generatedLines;
+            this.quotePool = quotePool == null ? new int[0] : quotePool;
+            this.seed = seed;
+            this.generator = generator;
+        }
+
+        /**
+         * Returns the seed the text was generated from.
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Returns the seeded generator, positioned after the prepared text.
+         */
+        public TextGenerator getGenerator() {
+            return generator;
+        }
+
+        /**
+         * Returns generated lines for words/numbers modes.
+         */
+        public List<String> getGeneratedLines() {
+            return generatedLines;
+        }
+
+        /**
+         * Returns sampled quote indexes for quotes mode.
+         */
+        public int[] getQuotePool() {
+            return quotePool;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package typeTutor.model;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -9,26 +7,21 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Random;
 import java.util.Set;
-
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.function.IntSupplier;
 
 /**
  * Generates typing text triplets from words/quotes resources.
  */
 public class TextGenerator {
-    // Fixed generator dimensions and classpath resource paths.
+    // Fixed generator dimensions.
     private static final int ROWS_PER_TRIPLET = 3;
     private static final int WORDS_PER_ROW = 15;
-    private static final String WORDS_EN_PATH = "/text/words/english_1k.json";
-    private static final String WORDS_FIL_PATH = "/text/words/filipino.json";
-    private static final String QUOTES_EN_PATH = "/text/quotes/english.json";
-    private static final String QUOTES_FIL_PATH = "/text/quotes/filipino.json";
-    private static final int QUOTE_MAX_CHARS = 200;
+    private static final String QUOTE_LENGTH_ALL = "All";
+    private static final int MAX_QUOTE_REDRAWS = 32;
 
-    // Shared randomness and JSON mapper.
+    // Shared randomness and parsed corpus source.
     private final Random random;
-    private final ObjectMapper objectMapper;
+    private final CorpusCache corpusCache;
 
     /**
      * Creates generator with default randomness.
@@ -41,22 +34,51 @@ public class TextGenerator {
      * Creates generator with provided randomness (useful for tests).
      */
     public TextGenerator(Random random) {
+        this(random, CorpusCache.shared());
+    }
+
+    /**
+     * Creates generator with provided randomness and corpus cache.
+     */
+    public TextGenerator(Random random, CorpusCache corpusCache) {
         this.random = random;
-        this.objectMapper = new ObjectMapper();
+        this.corpusCache = corpusCache;
+    }
+
+    /**
+     * Draws a seed for one session's text from this generator's randomness.
+     */
+    public long nextSeed() {
+        return random.nextLong();
+    }
+
+    /**
+     * Returns a generator over the same corpora whose output is fully determined by {@code seed}.
+     */
+    public TextGenerator withSeed(long seed) {
+        return new TextGenerator(new Random(seed), corpusCache);
     }
 
     /**
      * Generates session triplets for selected mode/language/time.
      */
     public List<List<String>> generateTriplets(String wordMode, String language, int timeSeconds) {
+        return generateTriplets(wordMode, language, QUOTE_LENGTH_ALL, timeSeconds);
+    }
+
+    /**
+     * Generates session triplets for selected mode/language/quote length/time.
+     */
+    public List<List<String>> generateTriplets(String wordMode, String language, String quoteLength, int timeSeconds) {
         int tripletCount = mapTripletCount(timeSeconds);
 
         if (isMode(wordMode, "quotes")) {
-            List<String> quotes = loadQuotes(language);
-            return generateQuoteTriplets(quotes, tripletCount);
+            QuoteStore store = corpusCache.quoteStore(language);
+            int[] quoteIndexes = generateQuoteIndexes(language, quoteLength, timeSeconds);
+            return generateQuoteTriplets(store, quoteIndexes);
         }
 
-        List<String> words = loadWords(language);
+        List<String> words = corpusCache.words(language);
         if (isMode(wordMode, "numbers")) {
             return generateWordTriplets(words, tripletCount, true);
         }
@@ -80,32 +102,83 @@ public class TextGenerator {
     }
 
     /**
-     * Builds triplets by sampling random quote lines.
+     * Returns the mapped quote corpus for the selected language.
      */
-    private List<List<String>> generateQuoteTriplets(List<String> quotes, int tripletCount) {
-        if (quotes.isEmpty()) {
-            return Collections.emptyList();
+    public QuoteStore quoteStore(String language) {
+        return corpusCache.quoteStore(language);
+    }
+
+    /**
+     * Samples a session's worth of quote indexes without decoding any quote text.
+     * Named lengths draw from the matching length group; "All" keeps the default length cap.
+     */
+    public int[] generateQuoteIndexes(String language, String quoteLength, int timeSeconds) {
+        QuoteStore store = corpusCache.quoteStore(language);
+        int count = mapTripletCount(timeSeconds) * ROWS_PER_TRIPLET;
+        int bucket = mapQuoteLengthBucket(quoteLength);
+        if (bucket >= 0) {
+            QuoteLengthIndex index = corpusCache.quoteLengthIndex(language);
+            if (index.bucketSize(bucket) > 0) {
+                return sampleQuoteIndexes(index.bucketSize(bucket), count, () -> index.sample(bucket, random));
+            }
         }
+        return sampleQuoteIndexes(store.size(), count,
+                () -> store.sampleIndex(random, CorpusCache.QUOTE_MAX_CHARS));
+    }
 
-        List<String> shuffledQuotes = new ArrayList<>(quotes);
-        Collections.shuffle(shuffledQuotes, random);
+    /**
+     * Builds triplets by decoding sampled quote lines.
+     */
+    private List<List<String>> generateQuoteTriplets(QuoteStore store, int[] quoteIndexes) {
+        if (quoteIndexes.length == 0) {
+            return Collections.emptyList();
+        }
 
-        List<List<String>> triplets = new ArrayList<>(tripletCount);
-        int quoteIndex = 0;
-        for (int triplet = 0; triplet < tripletCount; triplet++) {
+        List<List<String>> triplets = new ArrayList<>(quoteIndexes.length / ROWS_PER_TRIPLET);
+        for (int start = 0; start < quoteIndexes.length; start += ROWS_PER_TRIPLET) {
             List<String> rows = new ArrayList<>(ROWS_PER_TRIPLET);
             for (int row = 0; row < ROWS_PER_TRIPLET; row++) {
-                if (quoteIndex >= shuffledQuotes.size()) {
-                    Collections.shuffle(shuffledQuotes, random);
-                    quoteIndex = 0;
-                }
-                rows.add(shuffledQuotes.get(quoteIndex++));
+                rows.add(store.get(quoteIndexes[start + row]));
             }
             triplets.add(rows);
         }
         return triplets;
     }
 
+    /**
+     * Draws {@code count} quote indexes, avoiding repeats within one pool when the candidate set is large enough.
+     */
+    private int[] sampleQuoteIndexes(int candidateCount, int count, IntSupplier sampler) {
+        if (candidateCount == 0) {
+            return new int[0];
+        }
+
+        int[] indexes = new int[count];
+        boolean allowRepeats = candidateCount < count * 2;
+        for (int i = 0; i < count; i++) {
+            int candidate = sampler.getAsInt();
+            // Filtered samplers may reach fewer distinct quotes than the candidate count, so redraws are bounded.
+            for (int redraw = 0; !allowRepeats && redraw < MAX_QUOTE_REDRAWS
+                    && containsIndex(indexes, i, candidate); redraw++) {
+                candidate = sampler.getAsInt();
+            }
+            indexes[i] = candidate;
+        }
+        return indexes;
+    }
+
+    /**
+     * Linear membership check over the first {@code length} picked indexes.
+     */
+    private boolean containsIndex(int[] indexes, int length, int candidate) {
+        for (int i = 0; i < length; i++) {
+            if (indexes[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Generates one 15-token row. Numbers mode injects 3 numeric tokens.
      */
@@ -171,100 +244,25 @@ public class TextGenerator {
     }
 
     /**
-     * Case-insensitive mode comparison helper.
+     * Maps a quote length label to its length group, or -1 for "All".
      */
-    private boolean isMode(String value, String target) {
-        return value != null && target.equals(value.trim().toLowerCase(Locale.ROOT));
-    }
-
-    /**
-     * Loads word list file based on selected language.
-     */
-    private List<String> loadWords(String language) {
-        String path = isLanguageFilipino(language) ? WORDS_FIL_PATH : WORDS_EN_PATH;
-        try (InputStream stream = TextGenerator.class.getResourceAsStream(path)) {
-            if (stream == null) {
-                throw new IllegalStateException("Missing words file: " + path);
-            }
-
-            WordPayload payload = objectMapper.readValue(stream, WordPayload.class);
-            return payload.words == null ? Collections.emptyList() : payload.words;
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to read words file: " + path, e);
+    private int mapQuoteLengthBucket(String quoteLength) {
+        if (quoteLength == null) {
+            return -1;
         }
+        return switch (quoteLength.trim().toLowerCase(Locale.ROOT)) {
+            case "short" -> 0;
+            case "medium" -> 1;
+            case "long" -> 2;
+            case "thicc" -> 3;
+            default -> -1;
+        };
     }
 
     /**
-     * Loads quote list file based on selected language.
-     */
-    private List<String> loadQuotes(String language) {
-        String path = isLanguageFilipino(language) ? QUOTES_FIL_PATH : QUOTES_EN_PATH;
-        try (InputStream stream = TextGenerator.class.getResourceAsStream(path)) {
-            if (stream == null) {
-                throw new IllegalStateException("Missing quotes file: " + path);
-            }
-
-            QuotePayload payload = objectMapper.readValue(stream, QuotePayload.class);
-            if (payload.quotes == null || payload.quotes.isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            List<String> values = new ArrayList<>(payload.quotes.size());
-            List<String> allValues = new ArrayList<>(payload.quotes.size());
-            for (Quote quote : payload.quotes) {
-                if (quote != null && quote.text != null && !quote.text.isBlank()) {
-                    String text = quote.text.trim();
-                    allValues.add(text);
-                    if (text.length() <= QUOTE_MAX_CHARS) {
-                        values.add(text);
-                    }
-                }
-            }
-
-            // If everything was filtered out, fall back to the raw set.
-            return values.isEmpty() ? allValues : values;
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to read quotes file: " + path, e);
-        }
-    }
-
-    /**
-     * Detects Filipino language selection token.
-     */
-    private boolean isLanguageFilipino(String language) {
-        return language != null && language.trim().toLowerCase(Locale.ROOT).startsWith("fil");
-    }
-
-    /**
-     * JSON payload type for words files.
-     */
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class WordPayload {
-        private List<String> words;
-
-        public List<String> getWords() { return words; }
-        public void setWords(List<String> words) { this.words = words; }
-    }
-
-    /**
-     * JSON payload type for quotes files.
-     */
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class QuotePayload {
-        private List<Quote> quotes;
-
-        public List<Quote> getQuotes() { return quotes; }
-        public void setQuotes(List<Quote> quotes) { this.quotes = quotes; }
-    }
-
-    /**
-     * JSON quote object model.
+     * Case-insensitive mode comparison helper.
      */
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class Quote {
-        private String text;
-
-        public String getText() { return text; }
-        public void setText(String text) { this.text = text; }
+    private boolean isMode(String value, String target) {
+        return value != null && target.equals(value.trim().toLowerCase(Locale.ROOT));
     }
 }
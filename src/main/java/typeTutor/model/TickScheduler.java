@@ -0,0 +1,21 @@
+package typeTutor.model;
+
+/**
+ * Source of periodic callbacks used to drive countdown display refreshes.
+ * The UI uses a Swing-backed implementation; headless runs use {@link VirtualClock}.
+ */
+public interface TickScheduler {
+    /**
+     * Creates a stopped ticker that runs {@code action} every {@code periodMillis} once started.
+     */
+    Ticker createTicker(int periodMillis, Runnable action);
+
+    /**
+     * Handle for one periodic callback.
+     */
+    interface Ticker {
+        void start();
+        void stop();
+        boolean isRunning();
+    }
+}
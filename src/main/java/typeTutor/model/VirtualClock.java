@@ -0,0 +1,121 @@
+package typeTutor.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manually advanced clock for headless sessions, simulations, and replays.
+ * Also schedules tickers against virtual time, firing them as the clock is advanced.
+ */
+public class VirtualClock implements SessionClock, TickScheduler {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    // Current virtual time and all tickers created against this clock.
+    private long now;
+    private final List<VirtualTicker> tickers;
+
+    /**
+     * Creates a clock starting at time zero.
+     */
+    public VirtualClock() {
+        this.now = 0L;
+        this.tickers = new ArrayList<>();
+    }
+
+    /**
+     * Returns the current virtual time.
+     */
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * Moves time forward by {@code nanos}.
+     */
+    public void advance(long nanos) {
+        advanceTo(now + nanos);
+    }
+
+    /**
+     * Moves time forward to {@code targetNanos}, firing due tickers in deadline order.
+     * Earlier targets are ignored so time never runs backwards.
+     */
+    public void advanceTo(long targetNanos) {
+        if (targetNanos <= now) {
+            return;
+        }
+
+        while (!tickers.isEmpty()) {
+            VirtualTicker due = nextDueTicker(targetNanos);
+            if (due == null) {
+                break;
+            }
+            now = due.nextFireNanos;
+            due.nextFireNanos += due.periodNanos;
+            due.action.run();
+        }
+        now = targetNanos;
+    }
+
+    /**
+     * Creates a ticker that fires as virtual time passes.
+     */
+    @Override
+    public Ticker createTicker(int periodMillis, Runnable action) {
+        VirtualTicker ticker = new VirtualTicker(Math.max(1, periodMillis) * NANOS_PER_MILLI, action);
+        tickers.add(ticker);
+        return ticker;
+    }
+
+    /**
+     * Returns the running ticker with the earliest deadline at or before {@code limit}, if any.
+     */
+    private VirtualTicker nextDueTicker(long limit) {
+        VirtualTicker earliest = null;
+        for (int i = 0; i < tickers.size(); i++) {
+            VirtualTicker ticker = tickers.get(i);
+            if (ticker.running && ticker.nextFireNanos <= limit
+                    && (earliest == null || ticker.nextFireNanos < earliest.nextFireNanos)) {
+                earliest = ticker;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Ticker whose deadlines are measured on the owning virtual clock.
+     */
+    private class VirtualTicker implements Ticker {
+        private final long periodNanos;
+        private final Runnable action;
+        private boolean running;
+        private long nextFireNanos;
+
+        /**
+         * Creates a stopped ticker.
+         */
+        VirtualTicker(long periodNanos, Runnable action) {
+            this.periodNanos = periodNanos;
+            this.action = action;
+        }
+
+        @Override
+        public void start() {
+            if (!running) {
+                running = true;
+                nextFireNanos = now + periodNanos;
+            }
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+    }
+}
@@ -3,15 +3,50 @@ package typeTutor.view;
 import java.awt.Font;
 import java.awt.GraphicsEnvironment;
 import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central font loader for all UI files.
+ * The font files are parsed in parallel on background threads while the look and feel and the frame are set up;
+ * the first lookup of a family waits for its file. Derived fonts are cached by family, style and size,
+ * so repeated lookups return the same instance.
  */
 public final class AppFonts {
-    // Base font files loaded once from classpath resources.
-    private static Font montserratMediumBase;
-    private static Font montserratBoldBase;
-    private static Font jetBrainsBase;
+    // Bundled font families, each with the fallback used when its file cannot be loaded.
+    private enum Family {
+        MONTSERRAT_MEDIUM("/fonts/Montserrat-Medium.ttf", "SansSerif", Font.PLAIN),
+        MONTSERRAT_BOLD("/fonts/Montserrat-Bold.ttf", "SansSerif", Font.BOLD),
+        JETBRAINS_MONO("/fonts/JetBrainsMono-VariableFont_wght.ttf", "Monospaced", Font.PLAIN);
+
+        private final String resource;
+        private final String fallbackName;
+        private final int fallbackStyle;
+
+        /**
+         * Describes one bundled font file.
+         */
+        Family(String resource, String fallbackName, int fallbackStyle) {
+            this.resource = resource;
+            this.fallbackName = fallbackName;
+            this.fallbackStyle = fallbackStyle;
+        }
+
+        /**
+         * Returns the logical font used when the file cannot be loaded.
+         */
+        Font fallback() {
+            return new Font(fallbackName, fallbackStyle, 14);
+        }
+    }
+
+    // Base fonts being loaded, one per family, set once by init.
+    private static volatile Map<Family, CompletableFuture<Font>> baseFonts;
+
+    // Derived fonts keyed by family, style and size.
+    private static final Map<Long, Font> derivedFonts = new ConcurrentHashMap<>();
 
     /**
      * Utility class; no public constructor.
@@ -20,51 +55,94 @@ public final class AppFonts {
     }
 
     /**
-     * Loads and registers custom fonts once.
+     * Starts loading and registering custom fonts in the background, once; returns immediately.
      */
-    public static void init() {
-        if (montserratMediumBase != null && montserratBoldBase != null) {
+    public static synchronized void init() {
+        if (baseFonts != null) {
             return;
         }
 
-        try (InputStream montserratMedium = AppFonts.class.getResourceAsStream("/fonts/Montserrat-Medium.ttf");
-                InputStream montserratBold = AppFonts.class.getResourceAsStream("/fonts/Montserrat-Bold.ttf");
-                InputStream jetBrains = AppFonts.class.getResourceAsStream("/fonts/JetBrainsMono-VariableFont_wght.ttf")) {
+        Map<Family, CompletableFuture<Font>> loading = new EnumMap<>(Family.class);
+        for (Family family : Family.values()) {
+            loading.put(family, CompletableFuture.supplyAsync(() -> load(family), AppFonts::startLoaderThread));
+        }
+        baseFonts = loading;
+    }
 
-            montserratMediumBase = Font.createFont(Font.TRUETYPE_FONT, montserratMedium);
-            montserratBoldBase = Font.createFont(Font.TRUETYPE_FONT, montserratBold);
-            jetBrainsBase = Font.createFont(Font.TRUETYPE_FONT, jetBrains);
+    /**
+     * Returns a future that completes once every font file has been loaded (or has fallen back).
+     */
+    public static CompletableFuture<Void> whenLoaded() {
+        init();
+        return CompletableFuture.allOf(baseFonts.values().toArray(new CompletableFuture<?>[0]));
+    }
 
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(montserratMediumBase);
-            ge.registerFont(montserratBoldBase);
-            ge.registerFont(jetBrainsBase);
+    /**
+     * Parses and registers one font file, falling back to a logical font on any failure.
+     */
+    private static Font load(Family family) {
+        try (InputStream in = AppFonts.class.getResourceAsStream(family.resource)) {
+            if (in == null) {
+                return family.fallback();
+            }
+            Font font = Font.createFont(Font.TRUETYPE_FONT, in);
+            GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+            return font;
         } catch (Exception e) {
-            montserratMediumBase = new Font("SansSerif", Font.PLAIN, 14);
-            montserratBoldBase = new Font("SansSerif", Font.BOLD, 14);
-            jetBrainsBase = new Font("Monospaced", Font.PLAIN, 14);
+            return family.fallback();
+        }
+    }
+
+    /**
+     * Runs one font load on its own daemon thread so it never delays shutdown.
+     */
+    private static void startLoaderThread(Runnable task) {
+        Thread thread = new Thread(task, "font-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the base font of {@code family}, waiting for its file if it is still loading.
+     */
+    private static Font base(Family family) {
+        if (baseFonts == null) {
+            init();
+        }
+        return baseFonts.get(family).join();
+    }
+
+    /**
+     * Returns the cached {@code family} font at {@code style} and {@code size}, deriving it on first use.
+     */
+    private static Font derive(Family family, int style, float size) {
+        long key = (long) family.ordinal() << 40 | (long) (style & 0xFF) << 32 | Float.floatToIntBits(size) & 0xFFFFFFFFL;
+        Font font = derivedFonts.get(key);
+        if (font == null) {
+            font = derivedFonts.computeIfAbsent(key, k -> base(family).deriveFont(style, size));
         }
+        return font;
     }
 
     /**
      * Returns styled UI font from Montserrat family.
      */
     public static Font ui(float size, int style) {
-        return (style == Font.BOLD ? montserratBoldBase : montserratMediumBase).deriveFont(style, size);
+        return derive(style == Font.BOLD ? Family.MONTSERRAT_BOLD : Family.MONTSERRAT_MEDIUM, style, size);
     }
 
     /**
      * Returns Montserrat Medium 500 for normal UI text.
      */
     public static Font uiRegular(float size) {
-        return montserratMediumBase.deriveFont(Font.PLAIN, size);
+        return derive(Family.MONTSERRAT_MEDIUM, Font.PLAIN, size);
     }
 
     /**
      * Returns Montserrat Bold for headings.
      */
     public static Font uiBold(float size) {
-        return montserratBoldBase.deriveFont(Font.BOLD, size);
+        return derive(Family.MONTSERRAT_BOLD, Font.BOLD, size);
     }
 
     /**
@@ -78,20 +156,20 @@ public final class AppFonts {
      * Returns styled monospace font from JetBrains Mono family.
      */
     public static Font mono(float size, int style) {
-        return jetBrainsBase.deriveFont(style, size);
+        return derive(Family.JETBRAINS_MONO, style, size);
     }
 
     /**
      * Returns JetBrains Mono plain for normal text.
      */
     public static Font monoRegular(float size) {
-        return jetBrainsBase.deriveFont(Font.PLAIN, size);
+        return derive(Family.JETBRAINS_MONO, Font.PLAIN, size);
     }
 
     /**
      * Returns JetBrains Mono bold for emphasis.
      */
     public static Font monoExtraBold(float size) {
-        return jetBrainsBase.deriveFont(Font.BOLD, size);
+        return derive(Family.JETBRAINS_MONO, Font.BOLD, size);
     }
 }
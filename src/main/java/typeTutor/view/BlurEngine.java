@@ -0,0 +1,266 @@
+package typeTutor.view;
+
+import java.awt.AlphaComposite;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Snapshots a component into a pooled image and blurs it in place, working directly on {@code int[]} rasters.
+ * The snapshot is box-averaged down by {@value #DOWNSCALE}, blurred there with a separable box blur repeated
+ * {@value #PASSES} times (close to a Gaussian), then interpolated back up into the snapshot. Every step runs
+ * row by row on the common fork-join pool. All buffers are pooled while the size is unchanged, so repeated
+ * snapshots allocate nothing.
+ */
+class BlurEngine {
+    private static final int DOWNSCALE = 4;
+    private static final int PASSES = 2;
+    private static final int ROWS_PER_TASK = 32;
+
+    // Box radius at the reduced scale.
+    private final int smallRadius;
+
+    // Pooled snapshot (blurred in place), reduced rasters, the half-upsampled raster, and upsampling taps.
+    private BufferedImage snapshot;
+    private int width;
+    private int height;
+    private int smallWidth;
+    private int smallHeight;
+    private int[] small;
+    private int[] smallScratch;
+    private int[] widened;
+    private int[] columnTaps;
+    private int[] columnWeights;
+    private int[] rowTaps;
+    private int[] rowWeights;
+
+    /**
+     * Creates an engine whose blur radius is about {@code radius} pixels at full size.
+     */
+    BlurEngine(int radius) {
+        if (radius < 1 || radius > 255) {
+            throw new IllegalArgumentException("Blur radius must be 1..255: " + radius);
+        }
+        this.smallRadius = Math.max(1, (radius + DOWNSCALE - 1) / DOWNSCALE);
+    }
+
+    /**
+     * Paints {@code component} into the pooled snapshot, blurs it, and returns it
+     * (valid until the next call), or null when the component has no size.
+     */
+    BufferedImage blur(Component component) {
+        if (component.getWidth() <= 0 || component.getHeight() <= 0) {
+            return null;
+        }
+
+        ensureBuffers(component.getWidth(), component.getHeight());
+        Graphics2D g2 = snapshot.createGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, width, height);
+        g2.setComposite(AlphaComposite.SrcOver);
+        component.paint(g2);
+        g2.dispose();
+
+        int[] pixels = ((DataBufferInt) snapshot.getRaster().getDataBuffer()).getData();
+        forEachRow(smallHeight, row -> downsampleRow(pixels, row));
+        for (int pass = 0; pass < PASSES; pass++) {
+            // Each row pass writes transposed, so two of them blur both axes and restore the layout.
+            forEachRow(smallHeight, row -> blurRowTransposed(small, smallScratch, smallWidth, smallHeight, row));
+            forEachRow(smallWidth, row -> blurRowTransposed(smallScratch, small, smallHeight, smallWidth, row));
+        }
+        forEachRow(smallHeight, this::widenRow);
+        forEachRow(height, row -> heightenRow(pixels, row));
+        return snapshot;
+    }
+
+    /**
+     * Reallocates buffers and upsampling taps only when the size changed.
+     */
+    private void ensureBuffers(int newWidth, int newHeight) {
+        if (snapshot != null && width == newWidth && height == newHeight) {
+            return;
+        }
+        width = newWidth;
+        height = newHeight;
+        smallWidth = (width + DOWNSCALE - 1) / DOWNSCALE;
+        smallHeight = (height + DOWNSCALE - 1) / DOWNSCALE;
+        // Premultiplied pixels blur without dark fringes around translucent edges.
+        snapshot = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        small = new int[smallWidth * smallHeight];
+        smallScratch = new int[smallWidth * smallHeight];
+        widened = new int[width * smallHeight];
+        columnTaps = new int[width];
+        columnWeights = new int[width];
+        rowTaps = new int[height];
+        rowWeights = new int[height];
+        computeTaps(width, smallWidth, columnTaps, columnWeights);
+        computeTaps(height, smallHeight, rowTaps, rowWeights);
+    }
+
+    /**
+     * Averages each {@value #DOWNSCALE}x{@value #DOWNSCALE} block of one reduced row (edge blocks may be partial).
+     */
+    private void downsampleRow(int[] pixels, int smallRow) {
+        int top = smallRow * DOWNSCALE;
+        int bottom = Math.min(height, top + DOWNSCALE);
+        for (int smallColumn = 0; smallColumn < smallWidth; smallColumn++) {
+            int left = smallColumn * DOWNSCALE;
+            int right = Math.min(width, left + DOWNSCALE);
+            // Two channels per int (16-bit lanes); a 16-pixel block sums to at most 4080 per lane.
+            int redBlue = 0;
+            int alphaGreen = 0;
+            for (int y = top; y < bottom; y++) {
+                int index = y * width + left;
+                for (int x = left; x < right; x++, index++) {
+                    int pixel = pixels[index];
+                    redBlue += pixel & 0x00FF00FF;
+                    alphaGreen += (pixel >>> 8) & 0x00FF00FF;
+                }
+            }
+            int count = (bottom - top) * (right - left);
+            int averaged;
+            if (count == DOWNSCALE * DOWNSCALE) {
+                averaged = ((alphaGreen >>> 4) & 0x00FF00FF) << 8 | ((redBlue >>> 4) & 0x00FF00FF);
+            } else {
+                averaged = ((alphaGreen >>> 16) / count) << 24 | ((redBlue >>> 16) / count) << 16
+                        | ((alphaGreen & 0xFFFF) / count) << 8 | (redBlue & 0xFFFF) / count;
+            }
+            small[smallRow * smallWidth + smallColumn] = averaged;
+        }
+    }
+
+    /**
+     * Slides a {@code 2 * radius + 1} box along row {@code y} of a {@code rowLength}-wide raster, clamping at
+     * the edges, and writes the result as column {@code y} of the transposed output.
+     */
+    private void blurRowTransposed(int[] in, int[] out, int rowLength, int rowCount, int y) {
+        int window = 2 * smallRadius + 1;
+        // Fixed-point reciprocal, rounded up so a full 255 window stays 255.
+        int reciprocal = ((1 << 16) + window - 1) / window;
+        int rowStart = y * rowLength;
+        int last = rowLength - 1;
+
+        int a = 0;
+        int r = 0;
+        int g = 0;
+        int b = 0;
+        for (int i = -smallRadius; i <= smallRadius; i++) {
+            int pixel = in[rowStart + Math.min(last, Math.max(0, i))];
+            a += pixel >>> 24;
+            r += (pixel >> 16) & 0xFF;
+            g += (pixel >> 8) & 0xFF;
+            b += pixel & 0xFF;
+        }
+
+        int outIndex = y;
+        for (int x = 0; x < rowLength; x++) {
+            out[outIndex] = ((a * reciprocal) >>> 16) << 24
+                    | ((r * reciprocal) >>> 16) << 16
+                    | ((g * reciprocal) >>> 16) << 8
+                    | ((b * reciprocal) >>> 16);
+            outIndex += rowCount;
+
+            int entering = in[rowStart + Math.min(last, x + smallRadius + 1)];
+            int leaving = in[rowStart + Math.max(0, x - smallRadius)];
+            a += (entering >>> 24) - (leaving >>> 24);
+            r += ((entering >> 16) & 0xFF) - ((leaving >> 16) & 0xFF);
+            g += ((entering >> 8) & 0xFF) - ((leaving >> 8) & 0xFF);
+            b += (entering & 0xFF) - (leaving & 0xFF);
+        }
+    }
+
+    /**
+     * Interpolates one reduced row out to full width.
+     */
+    private void widenRow(int smallRow) {
+        int smallStart = smallRow * smallWidth;
+        int outStart = smallRow * width;
+        for (int x = 0; x < width; x++) {
+            int tap = smallStart + columnTaps[x];
+            int next = columnTaps[x] + 1 < smallWidth ? tap + 1 : tap;
+            widened[outStart + x] = lerp(small[tap], small[next], columnWeights[x]);
+        }
+    }
+
+    /**
+     * Interpolates one full-size output row from the two nearest widened rows.
+     */
+    private void heightenRow(int[] pixels, int y) {
+        int tap = rowTaps[y];
+        int upper = tap * width;
+        int lower = (tap + 1 < smallHeight ? tap + 1 : tap) * width;
+        int weight = rowWeights[y];
+        int outStart = y * width;
+        for (int x = 0; x < width; x++) {
+            pixels[outStart + x] = lerp(widened[upper + x], widened[lower + x], weight);
+        }
+    }
+
+    /**
+     * Runs {@code kernel} for rows {@code 0..rows-1} on the common fork-join pool.
+     */
+    private static void forEachRow(int rows, IntConsumer kernel) {
+        ForkJoinPool.commonPool().invoke(new RowsTask(kernel, 0, rows));
+    }
+
+    /**
+     * Computes, for each full-size coordinate, the reduced sample at or before its center and the
+     * 8-bit weight of the following sample.
+     */
+    private static void computeTaps(int size, int smallSize, int[] taps, int[] weights) {
+        for (int i = 0; i < size; i++) {
+            // Center of full-size pixel i in reduced coordinates, in 1/256 units.
+            int center = Math.max(0, ((2 * i + 1) * 256 / DOWNSCALE - 256) / 2);
+            taps[i] = Math.min(smallSize - 1, center >> 8);
+            weights[i] = taps[i] == smallSize - 1 ? 0 : center & 0xFF;
+        }
+    }
+
+    /**
+     * Blends two ARGB pixels per channel; {@code weight} is the share of {@code second} in 1/256 units.
+     */
+    private static int lerp(int first, int second, int weight) {
+        // Two channels per multiply: each 16-bit lane holds at most 255 * 256.
+        int keep = 256 - weight;
+        int redBlue = ((first & 0x00FF00FF) * keep + (second & 0x00FF00FF) * weight) >>> 8;
+        int alphaGreen = ((first >>> 8) & 0x00FF00FF) * keep + ((second >>> 8) & 0x00FF00FF) * weight;
+        return (alphaGreen & 0xFF00FF00) | (redBlue & 0x00FF00FF);
+    }
+
+    /**
+     * Fork-join task that splits a row range in halves down to {@value #ROWS_PER_TASK} rows.
+     */
+    private static class RowsTask extends RecursiveAction {
+        private final IntConsumer kernel;
+        private final int from;
+        private final int to;
+
+        /**
+         * Describes rows {@code from..to-1}.
+         */
+        RowsTask(IntConsumer kernel, int from, int to) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Splits large ranges, otherwise runs the kernel on each row.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowsTask(kernel, from, middle), new RowsTask(kernel, middle, to));
+                return;
+            }
+            for (int row = from; row < to; row++) {
+                kernel.accept(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package typeTutor.view;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.swing.JDialog;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Builds secondary dialogs on first use instead of before the main window is shown.
+ * Dialogs still unbuilt after startup can be warmed up in the background: one dialog per EDT event,
+ * so the input queue is never blocked for more than a single dialog's construction.
+ * All methods must be called on the EDT.
+ */
+public class DialogRegistry {
+    // Warm-up is on unless this system property is "false".
+    public static final String WARMUP_PROPERTY = "typeTuto.dialogWarmup";
+
+    // Factories in registration order and the dialogs built so far.
+    private final Map<Class<? extends JDialog>, Supplier<? extends JDialog>> factories;
+    private final Map<Class<? extends JDialog>, JDialog> dialogs;
+
+    /**
+     * Creates an empty registry.
+     */
+    public DialogRegistry() {
+        this.factories = new LinkedHashMap<>();
+        this.dialogs = new HashMap<>();
+    }
+
+    /**
+     * Registers how to build the dialog of {@code type}; nothing is constructed yet.
+     */
+    public <T extends JDialog> void register(Class<T> type, Supplier<T> factory) {
+        if (factories.putIfAbsent(type, factory) != null) {
+            throw new IllegalStateException("Dialog already registered: " + type.getSimpleName());
+        }
+    }
+
+    /**
+     * Returns the dialog of {@code type}, building it on first use.
+     */
+    public <T extends JDialog> T get(Class<T> type) {
+        JDialog dialog = dialogs.get(type);
+        if (dialog == null) {
+            Supplier<? extends JDialog> factory = factories.get(type);
+            if (factory == null) {
+                throw new IllegalStateException("Dialog not registered: " + type.getSimpleName());
+            }
+            dialog = factory.get();
+            dialogs.put(type, dialog);
+        }
+        return type.cast(dialog);
+    }
+
+    /**
+     * Returns whether the dialog of {@code type} has been built.
+     */
+    public boolean isCreated(Class<? extends JDialog> type) {
+        return dialogs.containsKey(type);
+    }
+
+    /**
+     * After {@code delayMillis}, builds every registered dialog not yet used, one per EDT event.
+     * Does nothing when warm-up is disabled via {@value #WARMUP_PROPERTY}.
+     */
+    public void warmUpAfter(int delayMillis) {
+        if ("false".equalsIgnoreCase(System.getProperty(WARMUP_PROPERTY))) {
+            return;
+        }
+        Timer timer = new Timer(delayMillis, e -> warmUpNext(new ArrayDeque<>(factories.keySet())));
+        timer.setRepeats(false);
+        timer.start();
+    }
+
+    /**
+     * Disposes the dialog of {@code type} if it was built.
+     */
+    public void dispose(Class<? extends JDialog> type) {
+        JDialog dialog = dialogs.get(type);
+        if (dialog != null) {
+            dialog.dispose();
+        }
+    }
+
+    /**
+     * Builds the next unbuilt dialog, then yields to queued events before the one after it.
+     */
+    private void warmUpNext(Deque<Class<? extends JDialog>> pending) {
+        while (!pending.isEmpty()) {
+            Class<? extends JDialog> type = pending.poll();
+            if (!isCreated(type)) {
+                get(type);
+                SwingUtilities.invokeLater(() -> warmUpNext(pending));
+                return;
+            }
+        }
+    }
+}
@@ -13,13 +13,12 @@ import java.awt.RenderingHints;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.image.BufferedImage;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -30,7 +29,7 @@ import javax.swing.SwingUtilities;
 
 import com.formdev.flatlaf.FlatClientProperties;
 
-import typeTutor.model.SessionHistoryTracker.Entry;
+import typeTutor.model.SessionHistoryTracker;
 import typeTutor.model.TypingStats;
 
 /**
@@ -55,18 +54,28 @@ public class MainFrame extends JFrame {
     private final JButton minimizeButton;
     private final JButton maximizeButton;
 
-    private InactivityOverlayDialog inactivityOverlayDialog;
-    private TypingStatsDialog typingStatsDialog;
-    private ScoringInfoDialog scoringInfoDialog;
-    private SessionHistoryDialog sessionHistoryDialog;
-    private List<Entry> sessionHistoryEntries;
+    // Secondary dialogs are built on first use, or warmed up shortly after the window opens.
+    private static final int DIALOG_WARMUP_DELAY_MS = 750;
+    private final DialogRegistry dialogs = new DialogRegistry();
+    private SessionHistoryTracker sessionHistory;
+    private Runnable firstPaintAction;
 
     public MainFrame() {
         headerPanel = new Headings();
         navPanel = new NavsPanel();
         typingPanel = new TypingPanel();
         statsPanel = new GameStatsPanel();
-        contentPanel = new JPanel(null);
+        contentPanel = new JPanel(null) {
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+                Runnable action = firstPaintAction;
+                if (action != null) {
+                    firstPaintAction = null;
+                    action.run();
+                }
+            }
+        };
         dimOverlayPane = new DimOverlayPane();
 
         titleBar = new JPanel(null);
@@ -86,7 +95,6 @@ public class MainFrame extends JFrame {
         titleDragArea.setOpaque(false);
         titleDragArea.putClientProperty(FlatClientProperties.COMPONENT_TITLE_BAR_CAPTION, Boolean.TRUE);
         titleBar.putClientProperty(FlatClientProperties.COMPONENT_TITLE_BAR_CAPTION, Boolean.TRUE);
-        sessionHistoryEntries = new ArrayList<>();
 
         initializeFrame();
         initializeDialogs();
@@ -148,10 +156,17 @@ public class MainFrame extends JFrame {
     }
 
     private void initializeDialogs() {
-        inactivityOverlayDialog = new InactivityOverlayDialog(this);
-        typingStatsDialog = new TypingStatsDialog(this);
-        scoringInfoDialog = new ScoringInfoDialog(this);
-        sessionHistoryDialog = new SessionHistoryDialog(this);
+        dialogs.register(InactivityOverlayDialog.class, () -> new InactivityOverlayDialog(this));
+        dialogs.register(TypingStatsDialog.class, () -> new TypingStatsDialog(this));
+        dialogs.register(ScoringInfoDialog.class, () -> new ScoringInfoDialog(this));
+        dialogs.register(SessionHistoryDialog.class, () -> new SessionHistoryDialog(this));
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                dialogs.warmUpAfter(DIALOG_WARMUP_DELAY_MS);
+            }
+        });
     }
 
     private void layoutComponents() {
@@ -278,28 +293,38 @@ public class MainFrame extends JFrame {
         return statsPanel;
     }
 
-    public void setSessionHistoryEntries(List<Entry> entries) {
-        sessionHistoryEntries = new ArrayList<>(entries);
+    public void setSessionHistory(SessionHistoryTracker tracker) {
+        sessionHistory = tracker;
+    }
+
+    public void onFirstPaint(Runnable action) {
+        firstPaintAction = action;
+    }
+
+    public DialogRegistry getDialogs() {
+        return dialogs;
     }
 
     public void showTypingStatsDialog(TypingStats stats) {
-        typingStatsDialog.showStats(stats);
+        dialogs.get(TypingStatsDialog.class).showStats(stats);
     }
 
     public void showScoringInfoDialog() {
-        scoringInfoDialog.showInfo();
+        dialogs.get(ScoringInfoDialog.class).showInfo();
     }
 
     public void showSessionHistoryDialog() {
-        sessionHistoryDialog.showHistory(sessionHistoryEntries);
+        dialogs.get(SessionHistoryDialog.class).showHistory(sessionHistory);
     }
 
     public void showInactivityCountdown(int secondsRemaining) {
-        inactivityOverlayDialog.showCountdown(secondsRemaining);
+        dialogs.get(InactivityOverlayDialog.class).showCountdown(secondsRemaining);
     }
 
     public void hideInactivityCountdown() {
-        inactivityOverlayDialog.hideOverlay();
+        if (dialogs.isCreated(InactivityOverlayDialog.class)) {
+            dialogs.get(InactivityOverlayDialog.class).hideOverlay();
+        }
     }
 
     public void setBlurStrength(float strength) {
@@ -334,7 +359,9 @@ public class MainFrame extends JFrame {
     }
 
     private static class DimOverlayPane extends JPanel {
+        private static final int BLUR_RADIUS = 8;
         private float overlayStrength = 0.45f;
+        private final BlurEngine blurEngine = new BlurEngine(BLUR_RADIUS);
         private BufferedImage blurredBackground;
 
         DimOverlayPane() {
@@ -349,32 +376,7 @@ public class MainFrame extends JFrame {
         }
 
         void refreshBlurSnapshot(Container contentPane) {
-            int width = contentPane.getWidth();
-            int height = contentPane.getHeight();
-            if (width <= 0 || height <= 0) {
-                blurredBackground = null;
-                return;
-            }
-
-            BufferedImage source = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2 = source.createGraphics();
-            contentPane.paint(g2);
-            g2.dispose();
-
-            int scaledWidth = Math.max(1, width / 7);
-            int scaledHeight = Math.max(1, height / 7);
-            BufferedImage scaled = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D small = scaled.createGraphics();
-            small.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            small.drawImage(source, 0, 0, scaledWidth, scaledHeight, null);
-            small.dispose();
-
-            BufferedImage expanded = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D large = expanded.createGraphics();
-            large.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            large.drawImage(scaled, 0, 0, width, height, null);
-            large.dispose();
-            blurredBackground = expanded;
+            blurredBackground = blurEngine.blur(contentPane);
         }
 
         @Override
@@ -22,7 +22,7 @@ import javax.swing.JPanel;
 import javax.swing.border.AbstractBorder;
 
 /**
- * Navbar view that exposes word/language/time selections.
+ * Navbar view that exposes word/language/time (and quote length) selections.
  * The controller listens to mode changes via callback.
  */
 public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
@@ -30,7 +30,7 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
      * Callback contract for mode changes.
      */
     public interface ModeChangeListener {
-        void onModeChanged(String wordMode, String language, String timeMode);
+        void onModeChanged(String wordMode, String language, String timeMode, String quoteLength);
     }
 
     // Style constants for active/inactive mode appearance.
@@ -43,6 +43,7 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
     private final JPanel wordModeNav;
     private final JPanel languageNav;
     private final JPanel timeModeNav;
+    private final JPanel quoteLengthNav;
 
     // Word mode buttons.
     private final JButton wordsButton;
@@ -58,6 +59,14 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
     private final JButton time60Button;
     private final JButton time30Button;
     private final JButton time15Button;
+
+    // Quote length buttons (shown only in quotes mode).
+    private final JButton quoteAllButton;
+    private final JButton quoteShortButton;
+    private final JButton quoteMediumButton;
+    private final JButton quoteLongButton;
+    private final JButton quoteThiccButton;
+
     private final JPanel utilityNav;
     private final JButton githubButton;
     private final JButton historyButton;
@@ -70,6 +79,7 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
     private String selectedWordMode = "Words";
     private String selectedLanguage = "Eng";
     private String selectedTimeMode = "60s";
+    private String selectedQuoteLength = "All";
     private ModeChangeListener modeChangeListener;
     private float alpha = 1f;
 
@@ -117,6 +127,23 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
         timeModeNav.add(time30Button);
         timeModeNav.add(time15Button);
 
+        quoteLengthNav = createNavbarPanel();
+        quoteAllButton = createBorderlessButton("All");
+        quoteShortButton = createBorderlessButton("Short");
+        quoteMediumButton = createBorderlessButton("Medium");
+        quoteLongButton = createBorderlessButton("Long");
+        quoteThiccButton = createBorderlessButton("Thicc");
+        quoteAllButton.addActionListener(e -> onQuoteLengthSelected("All"));
+        quoteShortButton.addActionListener(e -> onQuoteLengthSelected("Short"));
+        quoteMediumButton.addActionListener(e -> onQuoteLengthSelected("Medium"));
+        quoteLongButton.addActionListener(e -> onQuoteLengthSelected("Long"));
+        quoteThiccButton.addActionListener(e -> onQuoteLengthSelected("Thicc"));
+        quoteLengthNav.add(quoteAllButton);
+        quoteLengthNav.add(quoteShortButton);
+        quoteLengthNav.add(quoteMediumButton);
+        quoteLengthNav.add(quoteLongButton);
+        quoteLengthNav.add(quoteThiccButton);
+
         utilityNav = createUtilityPanel();
         githubButton = createIconButton("/icons/github.png", "GitHub repository");
         historyButton = createIconButton("/icons/history.png", "History");
@@ -139,6 +166,7 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
         navRow.add(wordModeNav);
         navRow.add(languageNav);
         navRow.add(timeModeNav);
+        navRow.add(quoteLengthNav);
         add(navRow);
 
         updateHighlighting();
@@ -194,12 +222,23 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
         }
     }
 
+    /**
+     * Handles quote length click.
+     */
+    private void onQuoteLengthSelected(String quoteLength) {
+        if (!selectedQuoteLength.equals(quoteLength)) {
+            selectedQuoteLength = quoteLength;
+            updateHighlighting();
+            notifyModeChanged();
+        }
+    }
+
     /**
      * Emits active modes to controller.
      */
     private void notifyModeChanged() {
         if (modeChangeListener != null) {
-            modeChangeListener.onModeChanged(selectedWordMode, selectedLanguage, selectedTimeMode);
+            modeChangeListener.onModeChanged(selectedWordMode, selectedLanguage, selectedTimeMode, selectedQuoteLength);
         }
     }
 
@@ -218,6 +257,13 @@ public class NavsPanel extends JPanel implements MainFrame.SupportsAlpha {
         setButtonColor(time60Button, selectedTimeMode.equals("60s"));
         setButtonColor(time30Button, selectedTimeMode.equals("30s"));
         setButtonColor(time15Button, selectedTimeMode.equals("15s"));
+
+        setButtonColor(quoteAllButton, selectedQuoteLength.equals("All"));
+        setButtonColor(quoteShortButton, selectedQuoteLength.equals("Short"));
+        setButtonColor(quoteMediumButton, selectedQuoteLength.equals("Medium"));
+        setButtonColor(quoteLongButton, selectedQuoteLength.equals("Long"));
+        setButtonColor(quoteThiccButton, selectedQuoteLength.equals("Thicc"));
+        quoteLengthNav.setVisible(selectedWordMode.equals("Quotes"));
     }
 
     /**
@@ -8,7 +8,8 @@ import java.awt.Frame;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
-import java.util.List;
+import java.time.LocalDate;
+import java.util.Locale;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -20,9 +21,9 @@ import javax.swing.JTable;
 import javax.swing.SwingConstants;
 import javax.swing.WindowConstants;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 
-import typeTutor.model.SessionHistoryTracker.Entry;
+import typeTutor.model.SessionAggregates;
+import typeTutor.model.SessionHistoryTracker;
 
 /**
  * Shows a table of previously completed typing sessions.
@@ -48,10 +49,10 @@ public class SessionHistoryDialog extends JDialog {
     }
 
     /**
-     * Shows the dialog for the supplied history entries.
+     * Shows the dialog for the tracker's recorded sessions.
      */
-    public void showHistory(List<Entry> entries) {
-        JPanel content = buildContent(entries);
+    public void showHistory(SessionHistoryTracker tracker) {
+        JPanel content = buildContent(tracker);
         int ownerWidth = getOwner() != null ? getOwner().getWidth() : 1200;
         content.setPreferredSize(new Dimension(Math.round(ownerWidth * 0.80f), content.getPreferredSize().height));
         setContentPane(content);
@@ -64,7 +65,7 @@ public class SessionHistoryDialog extends JDialog {
     /**
      * Builds the history table UI.
      */
-    private JPanel buildContent(List<Entry> entries) {
+    private JPanel buildContent(SessionHistoryTracker tracker) {
         JPanel content = new JPanel(new BorderLayout(0, 12));
         content.setBackground(new Color(22, 22, 30));
         content.setBorder(BorderFactory.createEmptyBorder(22, 22, 22, 22));
@@ -85,28 +86,12 @@ public class SessionHistoryDialog extends JDialog {
         titleBar.add(title, BorderLayout.CENTER);
         titleBar.add(close, BorderLayout.EAST);
 
-        String[] columns = {"When", "WPM", "Accuracy", "Rank", "Time", "Language", "Word Type"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        for (Entry entry : entries) {
-            model.addRow(new Object[] {
-                    entry.getTimestamp(),
-                    String.format("%.0f", entry.getWpm()),
-                    String.format("%.1f%%", entry.getAccuracy()),
-                    entry.getRank(),
-                    entry.getTimeMode(),
-                    entry.getLanguage(),
-                    entry.getWordMode()
-            });
-        }
+        JLabel summary = new JLabel(summaryText(tracker), SwingConstants.CENTER);
+        summary.setForeground(new Color(190, 190, 205));
+        summary.setFont(AppFonts.uiRegular(13f));
+        titleBar.add(summary, BorderLayout.SOUTH);
 
-        if (entries.isEmpty()) {
-            model.addRow(new Object[] {"No sessions yet", "-", "-", "-", "-", "-", "-"});
-        }
+        SessionHistoryTableModel model = new SessionHistoryTableModel(tracker);
 
         JTable table = new JTable(model);
         table.setRowHeight(28);
@@ -130,6 +115,28 @@ public class SessionHistoryDialog extends JDialog {
         return content;
     }
 
+    /**
+     * Formats the tracker's running aggregates as a one-line progress summary.
+     */
+    private static String summaryText(SessionHistoryTracker tracker) {
+        SessionAggregates stats = tracker == null ? new SessionAggregates() : tracker.getAggregates();
+        if (stats.getCount() == 0) {
+            return " ";
+        }
+        return String.format(Locale.ROOT,
+                "%d sessions  \u00b7  avg %.0f \u00b1 %.0f WPM  \u00b7  median %.0f  \u00b7  p90 %.0f"
+                        + "  \u00b7  best %.0f WPM / %.1f pts  \u00b7  streak %d days (longest %d)",
+                stats.getCount(),
+                stats.getMeanWpm(),
+                stats.getWpmStandardDeviation(),
+                stats.wpmAtPercentile(50),
+                stats.wpmAtPercentile(90),
+                stats.getBestWpm(),
+                stats.getBestScore(),
+                stats.getStreakDaysAsOf(LocalDate.now()),
+                stats.getLongestStreakDays());
+    }
+
     /**
      * Updates the rounded clipping for the dialog window.
      */
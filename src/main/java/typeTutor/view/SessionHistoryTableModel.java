@@ -0,0 +1,78 @@
+package typeTutor.view;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import javax.swing.table.AbstractTableModel;
+
+import typeTutor.model.SessionHistoryTracker;
+
+/**
+ * Read-only table over the tracker's history columns, newest session first.
+ * Nothing is copied: each visible cell reads one column value and formats it when the table paints it.
+ */
+class SessionHistoryTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"When", "WPM", "Accuracy", "Rank", "Time", "Language", "Word Type"};
+    private static final String[] EMPTY_ROW = {"No sessions yet", "-", "-", "-", "-", "-", "-"};
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    // History source and the session count when the table was opened.
+    private final SessionHistoryTracker tracker;
+    private final int sessionCount;
+
+    /**
+     * Creates a model over the sessions recorded so far (the history dialog is modal, so no rows arrive while open).
+     */
+    SessionHistoryTableModel(SessionHistoryTracker tracker) {
+        this.tracker = tracker;
+        this.sessionCount = tracker == null ? 0 : tracker.size();
+    }
+
+    /**
+     * Returns one row per session, or a single placeholder row when there are none.
+     */
+    @Override
+    public int getRowCount() {
+        return Math.max(1, sessionCount);
+    }
+
+    /**
+     * Returns the column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    /**
+     * Returns the header text of a column.
+     */
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    /**
+     * Formats one cell of the session shown at {@code row} (row 0 is the newest session).
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (sessionCount == 0) {
+            return EMPTY_ROW[column];
+        }
+
+        int session = sessionCount - 1 - row;
+        return switch (column) {
+            case 0 -> TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(tracker.getEndedAtMillis(session)));
+            case 1 -> String.format(Locale.ROOT, "%.0f", tracker.getWpm(session));
+            case 2 -> String.format(Locale.ROOT, "%.1f%%", tracker.getAccuracy(session));
+            case 3 -> tracker.getRank(session);
+            case 4 -> tracker.getTimeMode(session);
+            case 5 -> tracker.getLanguage(session);
+            default -> tracker.getWordMode(session);
+        };
+    }
+}
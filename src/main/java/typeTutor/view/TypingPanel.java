@@ -3,10 +3,6 @@ package typeTutor.view;
 import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.Font;
-import java.awt.AlphaComposite;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.GridLayout;
 import java.awt.Insets;
 import java.awt.Image;
 import java.awt.event.ComponentAdapter;
@@ -41,8 +37,8 @@ public class TypingPanel extends JPanel {
 
     // Timer label and row containers for typing text.
     private final JLabel timerLabel;
-    private final JPanel wordRowsContainer;
-    private final AlphaLabel[] rowLabels;
+    private final TypingRowsView rowsView;
+    private final JLabel latencyOverlay;
     private final JButton restartButton;
 
     // Current render model pushed by the controller.
@@ -58,10 +54,13 @@ public class TypingPanel extends JPanel {
 
     // Callback interface used by controller for key/click events.
     public interface InputListener {
-        void onCharacterTyped(char value);
-        void onBackspace();
+        void onCharacterTyped(char value, long eventTimeMillis);
+        void onBackspace(long eventTimeMillis);
         void onTypingAreaFocused();
         void onRestartRequested();
+        void onLatencyOverlayToggled();
+        void onLatencyDumpRequested();
+        void onGhostRaceToggled();
     }
 
     // Listener assigned by controller.
@@ -81,9 +80,17 @@ public class TypingPanel extends JPanel {
         timerLabel.setFont(AppFonts.ui(30f, Font.BOLD));
         add(timerLabel);
 
-        wordRowsContainer = new JPanel(new GridLayout(ROW_COUNT, 1, 0, 26));
-        wordRowsContainer.setOpaque(false);
-        add(wordRowsContainer);
+        rowsView = new TypingRowsView();
+        rowsView.setFont(AppFonts.mono(19f, Font.PLAIN));
+        rowsView.setCursor(Cursor.getPredefinedCursor(Cursor.TEXT_CURSOR));
+        add(rowsView);
+
+        latencyOverlay = new JLabel();
+        latencyOverlay.setForeground(new Color(155, 155, 155));
+        latencyOverlay.setFont(AppFonts.mono(11f, Font.PLAIN));
+        latencyOverlay.setVerticalAlignment(SwingConstants.TOP);
+        latencyOverlay.setVisible(false);
+        add(latencyOverlay);
 
         restartButton = new JButton();
         restartButton.setFocusPainted(false);
@@ -100,17 +107,6 @@ public class TypingPanel extends JPanel {
         });
         add(restartButton);
 
-        rowLabels = new AlphaLabel[ROW_COUNT];
-        for (int i = 0; i < ROW_COUNT; i++) {
-            AlphaLabel row = new AlphaLabel("");
-            row.setForeground(Color.GRAY);
-            row.setFont(AppFonts.mono(19f, Font.PLAIN));
-            row.setCursor(Cursor.getPredefinedCursor(Cursor.TEXT_CURSOR));
-            row.setAlpha(i == 1 ? 1f : 0.3f);
-            rowLabels[i] = row;
-            wordRowsContainer.add(row);
-        }
-
         // Initial empty render model until controller provides first session state.
         currentRows = new ArrayList<>();
         currentTargetText = "";
@@ -149,6 +145,40 @@ public class TypingPanel extends JPanel {
         timerLabel.setText(seconds + "s");
     }
 
+    /**
+     * Shows debug overlay text in the top-left corner, or hides the overlay when {@code text} is null.
+     */
+    public void setLatencyOverlayText(String text) {
+        if (text == null) {
+            latencyOverlay.setVisible(false);
+            return;
+        }
+        latencyOverlay.setText("<html><pre>" + text.replace("&", "&amp;").replace("<", "&lt;") + "</pre></html>");
+        latencyOverlay.setSize(latencyOverlay.getPreferredSize());
+        latencyOverlay.setVisible(true);
+    }
+
+    /**
+     * Registers a callback run after each paint of the typing rows (used for latency measurement).
+     */
+    public void setRowsPaintListener(Runnable listener) {
+        rowsView.setPaintListener(listener);
+    }
+
+    /**
+     * Places the race ghost caret {@code lineOffset} rows from the active row at fractional char {@code cursor}.
+     */
+    public void setGhostCursor(int lineOffset, float cursor) {
+        rowsView.setGhostCursor(lineOffset, cursor);
+    }
+
+    /**
+     * Hides the race ghost caret.
+     */
+    public void hideGhostCursor() {
+        rowsView.hideGhostCursor();
+    }
+
     /**
      * Applies a full render state from controller and repaints the rows.
      */
@@ -196,10 +226,7 @@ public class TypingPanel extends JPanel {
             }
         };
         addMouseListener(clickFocus);
-        wordRowsContainer.addMouseListener(clickFocus);
-        for (JLabel rowLabel : rowLabels) {
-            rowLabel.addMouseListener(clickFocus);
-        }
+        rowsView.addMouseListener(clickFocus);
 
         addFocusListener(new FocusAdapter() {
             @Override
@@ -216,8 +243,22 @@ public class TypingPanel extends JPanel {
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                if (e.getKeyCode() == KeyEvent.VK_BACK_SPACE && inputListener != null) {
-                    inputListener.onBackspace();
+                if (inputListener == null) {
+                    return;
+                }
+                if (e.getKeyCode() == KeyEvent.VK_BACK_SPACE) {
+                    inputListener.onBackspace(e.getWhen());
+                    e.consume();
+                } else if (e.getKeyCode() == KeyEvent.VK_F12) {
+                    // F12 toggles the latency overlay; Shift+F12 dumps the histograms to a file.
+                    if (e.isShiftDown()) {
+                        inputListener.onLatencyDumpRequested();
+                    } else {
+                        inputListener.onLatencyOverlayToggled();
+                    }
+                    e.consume();
+                } else if (e.getKeyCode() == KeyEvent.VK_F9) {
+                    inputListener.onGhostRaceToggled();
                     e.consume();
                 }
             }
@@ -231,134 +272,25 @@ public class TypingPanel extends JPanel {
                 if (Character.isISOControl(typed)) {
                     return;
                 }
-                inputListener.onCharacterTyped(typed);
+                inputListener.onCharacterTyped(typed, e.getWhen());
                 e.consume();
             }
         });
     }
 
     /**
-     * Renders the three rows with caret and per-character colors.
+     * Pushes the current render model into the glyph rows view.
      */
     private void renderRows() {
-        boolean showCaret = isFocusOwner() && gameRunning;
-
-        for (int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++) {
-            String rowText = rowIndex < currentRows.size() ? currentRows.get(rowIndex) : "";
-            int rowLength = rowText.length();
-            rowLabels[rowIndex].setAlpha(multiRowTyping ? 1f : (rowIndex == 1 ? 1f : 0.3f));
-
-            StringBuilder html = new StringBuilder("<html><div style='text-align:center;'>");
-
-            boolean isActiveRow = multiRowTyping || (rowIndex == 1);
-            boolean isPreviousRow = (rowIndex == 0);
-            char[] renderChars = null;
-            int[] renderStates = null;
-            if (isPreviousRow && previousTypedChars != null && previousCharStates != null) {
-                renderChars = previousTypedChars;
-                renderStates = previousCharStates;
-                rowLength = renderChars.length;
-            }
-
-            int rowStart = 0;
-            if (multiRowTyping) {
-                rowStart = computeRowStarts(currentRows)[rowIndex];
-            }
-            for (int localIndex = 0; localIndex < rowLength; localIndex++) {
-                int thisIndex = multiRowTyping ? (rowStart + localIndex) : localIndex;
-                if (isActiveRow && showCaret && cursorIndex == thisIndex) {
-                    html.append("<span style='color:#ffc05a;'>|</span>");
-                }
-
-                if (!isActiveRow) {
-                    if (isPreviousRow && renderChars != null && renderStates != null) {
-                        char c = renderChars[localIndex];
-                        String color = colorForStateFromArray(renderStates, localIndex);
-                        html.append("<span style='color:").append(color).append(";'>")
-                                .append(escapeHtml(c))
-                                .append("</span>");
-                    } else {
-                        html.append("<span style='color:#9b9b9b;'>")
-                                .append(escapeHtml(rowText.charAt(localIndex)))
-                                .append("</span>");
-                    }
-                    continue;
-                }
-
-                char currentChar = thisIndex < shownChars.length ? shownChars[thisIndex] : rowText.charAt(localIndex);
-                String color = colorForState(thisIndex);
-                html.append("<span style='color:").append(color).append(";'>")
-                        .append(escapeHtml(currentChar))
-                        .append("</span>");
-            }
-
-            int endIndex = multiRowTyping ? (rowStart + rowLength) : rowLength;
-            if (isActiveRow && showCaret && cursorIndex == endIndex) {
-                html.append("<span style='color:#ffc05a;'>|</span>");
-            }
-
-            html.append("</div></html>");
-            rowLabels[rowIndex].setText(html.toString());
-        }
-    }
-
-    private int[] computeRowStarts(List<String> rows) {
-        int[] starts = new int[ROW_COUNT];
-        int running = 0;
-        for (int i = 0; i < ROW_COUNT; i++) {
-            starts[i] = running;
-            String row = i < rows.size() ? rows.get(i) : "";
-            running += row.length();
-            if (i < ROW_COUNT - 1) {
-                running += 1;
-            }
-        }
-        return starts;
-    }
-
-    /**
-     * Maps state value to display color.
-     */
-    private String colorForState(int index) {
-        if (index < 0 || index >= charStates.length) {
-            return "#9b9b9b";
-        }
-
-        return switch (charStates[index]) {
-            case CORRECT_STATE -> "#57e389";
-            case WRONG_STATE -> "#ff6b6b";
-            default -> "#9b9b9b";
-        };
-    }
-
-    private String colorForStateFromArray(int[] states, int index) {
-        if (states == null || index < 0 || index >= states.length) {
-            return "#9b9b9b";
-        }
-        return switch (states[index]) {
-            case CORRECT_STATE -> "#57e389";
-            case WRONG_STATE -> "#ff6b6b";
-            default -> "#9b9b9b";
-        };
-    }
-
-    /**
-     * Escapes special characters for HTML JLabel rendering.
-     */
-    private String escapeHtml(char value) {
-        if (value == '<') {
-            return "&lt;";
-        }
-        if (value == '>') {
-            return "&gt;";
-        }
-        if (value == '&') {
-            return "&amp;";
-        }
-        if (value == ' ') {
-            return "&nbsp;";
-        }
-        return Character.toString(value);
+        rowsView.update(
+                currentRows,
+                shownChars,
+                charStates,
+                cursorIndex,
+                isFocusOwner() && gameRunning,
+                previousTypedChars,
+                previousCharStates,
+                multiRowTyping);
     }
 
     /**
@@ -373,13 +305,14 @@ public class TypingPanel extends JPanel {
 
         int timerHeight = Math.max(36, Math.round(height * 0.20f));
         timerLabel.setBounds(0, 8, width, timerHeight);
+        latencyOverlay.setLocation(8, 8);
 
         int rowsWidth = Math.round(width * 0.90f);
         int rowsHeight = Math.round(height * 0.50f);
         int rowsX = (width - rowsWidth) / 2;
         int rowsY = timerHeight + Math.round(height * 0.06f);
 
-        wordRowsContainer.setBounds(rowsX, rowsY, rowsWidth, rowsHeight);
+        rowsView.setBounds(rowsX, rowsY, rowsWidth, rowsHeight);
 
         int buttonWidth = 32;
         int buttonHeight = 32;
@@ -390,14 +323,13 @@ public class TypingPanel extends JPanel {
 
     /**
      * Public hook to force rerendering of the typing rows and repaint the panel.
-     * Useful when outer window decorators change size/state and the HTML labels
+     * Useful when outer window decorators change size/state and the rows
      * need an explicit refresh to avoid transient visual glitches.
      */
     public void refreshDisplay() {
         SwingUtilities.invokeLater(() -> {
             renderRows();
-            wordRowsContainer.revalidate();
-            wordRowsContainer.repaint();
+            rowsView.repaint();
             revalidate();
             repaint();
         });
@@ -411,29 +343,4 @@ public class TypingPanel extends JPanel {
         Image image = new ImageIcon(iconUrl).getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         return new ImageIcon(image);
     }
-
-    /**
-     * JLabel that can paint itself with adjustable opacity.
-     */
-    private static class AlphaLabel extends JLabel {
-        private float alpha = 1f;
-
-        AlphaLabel(String text) {
-            super(text, SwingConstants.CENTER);
-            setOpaque(false);
-        }
-
-        void setAlpha(float alpha) {
-            this.alpha = Math.max(0f, Math.min(1f, alpha));
-            repaint();
-        }
-
-        @Override
-        protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setComposite(AlphaComposite.SrcOver.derive(alpha));
-            super.paintComponent(g2);
-            g2.dispose();
-        }
-    }
 }
@@ -0,0 +1,526 @@
+package typeTutor.view;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JComponent;
+
+/**
+ * Paints the three typing rows directly as glyph runs.
+ * Replaces per-keystroke HTML labels: an update only copies chars/states into fixed cell buffers,
+ * and painting draws same-colored runs with {@link Graphics2D#drawChars} on a monospace grid.
+ * Updates that keep the row layout repaint only the glyph cells (and caret) that changed.
+ * An optional ghost caret (race mode) is drawn at a fractional column and repainted on its own.
+ */
+class TypingRowsView extends JComponent {
+    // Row layout constants (match the previous 3x1 grid with 26px gaps).
+    private static final int ROW_COUNT = TypingPanel.ROW_COUNT;
+    private static final int ROW_GAP = 26;
+    private static final float INACTIVE_ROW_ALPHA = 0.3f;
+
+    // Glyph colors by char state, plus caret color.
+    private static final Color PENDING_COLOR = new Color(0x9b9b9b);
+    private static final Color CORRECT_COLOR = new Color(0x57e389);
+    private static final Color WRONG_COLOR = new Color(0xff6b6b);
+    private static final Color CARET_COLOR = new Color(0xffc05a);
+    private static final Color GHOST_COLOR = new Color(0x7aa2f7);
+    private static final float GHOST_ALPHA = 0.75f;
+    private static final char CARET_GLYPH = '|';
+
+    // Per-row glyph cells: chars to draw and their color state.
+    private final char[][] cellChars;
+    private final int[][] cellStates;
+    private final int[] cellCounts;
+    private final String[] rowTexts;
+
+    // Wrapped line starts per row; rebuilt only when row lengths or width change.
+    private final int[][] lineStarts;
+    private final int[] lineCounts;
+    private boolean layoutValid;
+    private int layoutWidth;
+
+    // Caret cell (row/column) or -1 when hidden, and whether all rows are typed.
+    private int caretRow;
+    private int caretColumn;
+    private boolean multiRowTyping;
+
+    // Ghost caret cell and sub-cell offset, or row -1 when hidden.
+    private int ghostRow;
+    private int ghostColumn;
+    private float ghostFraction;
+
+    // Changed cell range per row since the last update ({@code dirtyFrom > dirtyTo} when clean).
+    private final int[] dirtyFrom;
+    private final int[] dirtyTo;
+    private final Rectangle dirtyRect;
+
+    // Optional callback run after every paint.
+    private Runnable paintListener;
+
+    // Metrics cached per font; recomputed only when the font changes.
+    private FontMetrics metrics;
+    private int cellWidth;
+
+    /**
+     * Creates an empty rows view.
+     */
+    TypingRowsView() {
+        setOpaque(false);
+        cellChars = new char[ROW_COUNT][0];
+        cellStates = new int[ROW_COUNT][0];
+        cellCounts = new int[ROW_COUNT];
+        rowTexts = new String[ROW_COUNT];
+        lineStarts = new int[ROW_COUNT][1];
+        lineCounts = new int[ROW_COUNT];
+        caretRow = -1;
+        caretColumn = -1;
+        ghostRow = -1;
+        dirtyFrom = new int[ROW_COUNT];
+        dirtyTo = new int[ROW_COUNT];
+        dirtyRect = new Rectangle();
+    }
+
+    /**
+     * Drops cached metrics so the next paint measures the new font.
+     */
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        metrics = null;
+        layoutValid = false;
+        repaint();
+    }
+
+    /**
+     * Sets a callback run at the end of every paint, or null for none.
+     */
+    void setPaintListener(Runnable listener) {
+        this.paintListener = listener;
+    }
+
+    /**
+     * Moves the ghost caret. {@code cursor} is a fractional char index: global across the rows when all rows
+     * are typed, otherwise within the row {@code lineOffset} away from the active one (-1 is the row above).
+     */
+    void setGhostCursor(int lineOffset, float cursor) {
+        int row = -1;
+        int column = (int) cursor;
+        if (multiRowTyping) {
+            int rowStart = 0;
+            for (int candidate = 0; candidate < ROW_COUNT; candidate++) {
+                int length = rowTexts[candidate] == null ? 0 : rowTexts[candidate].length();
+                if (column <= rowStart + length) {
+                    row = candidate;
+                    column -= rowStart;
+                    break;
+                }
+                rowStart += length + 1;
+            }
+        } else if (lineOffset >= -1 && lineOffset <= 1) {
+            row = 1 + lineOffset;
+        }
+        if (row < 0 || column < 0 || column > cellCounts[row]) {
+            hideGhostCursor();
+            return;
+        }
+
+        float fraction = column == cellCounts[row] ? 0f : cursor - (int) cursor;
+        if (row == ghostRow && column == ghostColumn && fraction == ghostFraction) {
+            return;
+        }
+        repaintGhost();
+        ghostRow = row;
+        ghostColumn = column;
+        ghostFraction = fraction;
+        repaintGhost();
+    }
+
+    /**
+     * Hides the ghost caret.
+     */
+    void hideGhostCursor() {
+        if (ghostRow < 0) {
+            return;
+        }
+        repaintGhost();
+        ghostRow = -1;
+    }
+
+    /**
+     * Copies the controller's render state into the glyph cells and repaints what changed.
+     */
+    void update(
+            List<String> rows,
+            char[] shownChars,
+            int[] charStates,
+            int cursorIndex,
+            boolean showCaret,
+            char[] previousChars,
+            int[] previousStates,
+            boolean multiRowTyping) {
+        if (this.multiRowTyping != multiRowTyping) {
+            this.multiRowTyping = multiRowTyping;
+            layoutValid = false;
+        }
+        int previousCaretRow = caretRow;
+        int previousCaretColumn = caretColumn;
+        caretRow = -1;
+        caretColumn = -1;
+        for (int row = 0; row < ROW_COUNT; row++) {
+            dirtyFrom[row] = Integer.MAX_VALUE;
+            dirtyTo[row] = -1;
+        }
+
+        int rowStart = 0;
+        for (int row = 0; row < ROW_COUNT; row++) {
+            String rowText = row < rows.size() ? rows.get(row) : "";
+            boolean activeRow = multiRowTyping || row == 1;
+            boolean previousRow = !multiRowTyping && row == 0 && previousChars != null && previousStates != null;
+            int globalStart = multiRowTyping ? rowStart : 0;
+
+            if (!rowText.equals(rowTexts[row])) {
+                rowTexts[row] = rowText;
+                layoutValid = false;
+            }
+
+            if (previousRow) {
+                fillCells(row, previousChars, previousStates, 0, previousChars.length, null);
+            } else if (activeRow) {
+                fillCells(row, shownChars, charStates, globalStart, rowText.length(), rowText);
+                int localCursor = cursorIndex - globalStart;
+                if (showCaret && localCursor >= 0 && localCursor <= rowText.length()) {
+                    caretRow = row;
+                    caretColumn = localCursor;
+                }
+            } else {
+                fillCells(row, null, null, 0, rowText.length(), rowText);
+            }
+
+            rowStart += rowText.length() + 1;
+        }
+        repaintChanges(previousCaretRow, previousCaretColumn);
+    }
+
+    /**
+     * Repaints only changed cells and both caret positions while the layout is unchanged;
+     * anything that moves glyphs (new rows, lengths, mode, width, font) repaints the whole view.
+     */
+    private void repaintChanges(int previousCaretRow, int previousCaretColumn) {
+        if (!layoutValid || metrics == null || layoutWidth != getWidth()) {
+            repaint();
+            return;
+        }
+
+        for (int row = 0; row < ROW_COUNT; row++) {
+            for (int column = dirtyFrom[row]; column <= dirtyTo[row]; column++) {
+                repaintCell(row, column);
+            }
+        }
+        if (previousCaretRow != caretRow || previousCaretColumn != caretColumn) {
+            repaintCaret(previousCaretRow, previousCaretColumn);
+            repaintCaret(caretRow, caretColumn);
+        }
+    }
+
+    /**
+     * Repaints the bounds of one glyph cell.
+     */
+    private void repaintCell(int row, int column) {
+        if (cellBounds(row, column, dirtyRect)) {
+            repaint(dirtyRect.x - 1, dirtyRect.y, dirtyRect.width + 2, dirtyRect.height);
+        }
+    }
+
+    /**
+     * Repaints the caret glyph straddling the boundary before {@code column}.
+     */
+    private void repaintCaret(int row, int column) {
+        if (row >= 0 && cellBounds(row, column, dirtyRect)) {
+            int caretWidth = metrics.charWidth(CARET_GLYPH);
+            repaint(dirtyRect.x - caretWidth / 2 - 1, dirtyRect.y, caretWidth + 2, dirtyRect.height);
+        }
+    }
+
+    /**
+     * Repaints the ghost caret's current slot, including the neighboring cell it glides toward.
+     */
+    private void repaintGhost() {
+        if (ghostRow < 0) {
+            return;
+        }
+        if (metrics == null || !layoutValid || !cellBounds(ghostRow, ghostColumn, dirtyRect)) {
+            repaint();
+            return;
+        }
+        int caretWidth = metrics.charWidth(CARET_GLYPH);
+        repaint(dirtyRect.x - caretWidth / 2 - 1, dirtyRect.y, cellWidth + caretWidth + 2, dirtyRect.height);
+    }
+
+    /**
+     * Stores the on-screen bounds of a cell (or of the caret slot after the last cell) in {@code bounds}.
+     */
+    private boolean cellBounds(int row, int column, Rectangle bounds) {
+        int lines = lineCounts[row];
+        int lineHeight = metrics.getHeight();
+        int rowHeight = rowHeight();
+        int blockTop = row * (rowHeight + ROW_GAP) + (rowHeight - lines * lineHeight) / 2;
+        for (int line = 0; line < lines; line++) {
+            int start = lineStarts[row][line];
+            int end = line + 1 < lines ? lineStarts[row][line + 1] : cellCounts[row];
+            boolean lastLine = line == lines - 1;
+            if (column >= start && (column < end || (lastLine && column == end))) {
+                bounds.setBounds(
+                        lineX(start, end) + (column - start) * cellWidth,
+                        blockTop + line * lineHeight,
+                        cellWidth,
+                        lineHeight);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills one row's cells from a char/state window, falling back to the row text and pending state.
+     */
+    private void fillCells(int row, char[] chars, int[] states, int start, int length, String fallback) {
+        if (cellCounts[row] != length) {
+            layoutValid = false;
+        }
+        if (cellChars[row].length < length) {
+            cellChars[row] = new char[length];
+            cellStates[row] = new int[length];
+        }
+
+        char[] targetChars = cellChars[row];
+        int[] targetStates = cellStates[row];
+        for (int i = 0; i < length; i++) {
+            int source = start + i;
+            char value = chars != null && source < chars.length ? chars[source] : fallback.charAt(i);
+            int state = states != null && source < states.length ? states[source] : TypingPanel.DEFAULT_STATE;
+            if (targetChars[i] != value || targetStates[i] != state) {
+                targetChars[i] = value;
+                targetStates[i] = state;
+                dirtyFrom[row] = Math.min(dirtyFrom[row], i);
+                dirtyTo[row] = Math.max(dirtyTo[row], i);
+            }
+        }
+        cellCounts[row] = length;
+    }
+
+    /**
+     * Paints the wrapped lines inside the clip as same-colored glyph runs, then the caret.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        applyTextHints(g2);
+        g2.setFont(getFont());
+        ensureMetrics();
+        ensureLayout();
+
+        Rectangle clip = g2.getClipBounds();
+        int clipLeft = clip == null ? 0 : clip.x;
+        int clipRight = clip == null ? getWidth() : clip.x + clip.width;
+        int clipTop = clip == null ? 0 : clip.y;
+        int clipBottom = clip == null ? getHeight() : clip.y + clip.height;
+
+        int rowHeight = rowHeight();
+        int lineHeight = metrics.getHeight();
+        for (int row = 0; row < ROW_COUNT; row++) {
+            float alpha = multiRowTyping || row == 1 ? 1f : INACTIVE_ROW_ALPHA;
+            g2.setComposite(AlphaComposite.SrcOver.derive(alpha));
+
+            int lines = lineCounts[row];
+            int blockTop = row * (rowHeight + ROW_GAP) + (rowHeight - lines * lineHeight) / 2;
+            for (int line = 0; line < lines; line++) {
+                int lineTop = blockTop + line * lineHeight;
+                if (lineTop >= clipBottom || lineTop + lineHeight <= clipTop) {
+                    continue;
+                }
+
+                int start = lineStarts[row][line];
+                int end = line + 1 < lines ? lineStarts[row][line + 1] : cellCounts[row];
+                int x = lineX(start, end);
+                int baseline = lineTop + metrics.getAscent();
+                // Only cells overlapping the clip (plus one for glyph overhang) are drawn.
+                int from = Math.max(start, start + (clipLeft - x) / cellWidth - 1);
+                int to = Math.min(end, start + (clipRight - x) / cellWidth + 2);
+                if (from < to) {
+                    paintRuns(g2, row, from, to, x + (from - start) * cellWidth, baseline);
+                }
+                if (row == caretRow && isCaretOnLine(row, line, start, end)) {
+                    paintCaret(g2, x + (caretColumn - start) * cellWidth, baseline);
+                }
+            }
+        }
+        if (ghostRow >= 0 && ghostColumn <= cellCounts[ghostRow] && cellBounds(ghostRow, ghostColumn, dirtyRect)) {
+            paintGhost(g2, dirtyRect.x + Math.round(ghostFraction * cellWidth), dirtyRect.y + metrics.getAscent());
+        }
+        g2.dispose();
+
+        if (paintListener != null) {
+            paintListener.run();
+        }
+    }
+
+    /**
+     * Draws cells {@code start..end} of one row from {@code x}, one drawChars call per color run.
+     */
+    private void paintRuns(Graphics2D g2, int row, int start, int end, int x, int baseline) {
+        char[] chars = cellChars[row];
+        int[] states = cellStates[row];
+        int runStart = start;
+        while (runStart < end) {
+            int state = states[runStart];
+            int runEnd = runStart + 1;
+            while (runEnd < end && states[runEnd] == state) {
+                runEnd++;
+            }
+            g2.setColor(colorForState(state));
+            g2.drawChars(chars, runStart, runEnd - runStart, x + (runStart - start) * cellWidth, baseline);
+            runStart = runEnd;
+        }
+    }
+
+    /**
+     * Draws the caret glyph centered on the boundary before cell {@code x}.
+     */
+    private void paintCaret(Graphics2D g2, int x, int baseline) {
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.setColor(CARET_COLOR);
+        int caretWidth = metrics.charWidth(CARET_GLYPH);
+        g2.drawString(String.valueOf(CARET_GLYPH), x - caretWidth / 2, baseline);
+    }
+
+    /**
+     * Draws the translucent ghost caret glyph centered on {@code x}.
+     */
+    private void paintGhost(Graphics2D g2, int x, int baseline) {
+        g2.setComposite(AlphaComposite.SrcOver.derive(GHOST_ALPHA));
+        g2.setColor(GHOST_COLOR);
+        int caretWidth = metrics.charWidth(CARET_GLYPH);
+        g2.drawString(String.valueOf(CARET_GLYPH), x - caretWidth / 2, baseline);
+    }
+
+    /**
+     * Returns whether the caret column falls on the given wrapped line.
+     * A column on a wrap boundary belongs to the following line, except after the last line.
+     */
+    private boolean isCaretOnLine(int row, int line, int start, int end) {
+        boolean lastLine = line == lineCounts[row] - 1;
+        return caretColumn >= start && (caretColumn < end || (lastLine && caretColumn == end));
+    }
+
+    /**
+     * Returns the left x of a centered line.
+     */
+    private int lineX(int start, int end) {
+        return (getWidth() - (end - start) * cellWidth) / 2;
+    }
+
+    /**
+     * Returns the height of one row slot.
+     */
+    private int rowHeight() {
+        return Math.max(0, (getHeight() - ROW_GAP * (ROW_COUNT - 1)) / ROW_COUNT);
+    }
+
+    /**
+     * Measures the font once; the typing font is monospace, so one advance sizes every cell.
+     */
+    private void ensureMetrics() {
+        if (metrics == null) {
+            metrics = getFontMetrics(getFont());
+            cellWidth = Math.max(1, metrics.charWidth('0'));
+            layoutValid = false;
+        }
+    }
+
+    /**
+     * Rebuilds wrapped line starts when row lengths or the available width changed.
+     */
+    private void ensureLayout() {
+        if (layoutValid && layoutWidth == getWidth()) {
+            return;
+        }
+
+        int columns = Math.max(1, getWidth() / cellWidth);
+        for (int row = 0; row < ROW_COUNT; row++) {
+            wrapRow(row, columns);
+        }
+        layoutWidth = getWidth();
+        layoutValid = true;
+    }
+
+    /**
+     * Splits a row into lines of at most {@code columns} cells, breaking after spaces where possible.
+     * Wrapping uses the row text so typed wrong chars never move line breaks mid-session.
+     */
+    private void wrapRow(int row, int columns) {
+        int length = cellCounts[row];
+        String text = rowTexts[row];
+        int lines = 0;
+        int start = 0;
+        do {
+            if (lineStarts[row].length <= lines) {
+                int[] grown = new int[lineStarts[row].length * 2];
+                System.arraycopy(lineStarts[row], 0, grown, 0, lineStarts[row].length);
+                lineStarts[row] = grown;
+            }
+            lineStarts[row][lines++] = start;
+
+            int end = Math.min(length, start + columns);
+            if (end < length && text != null) {
+                int space = text.lastIndexOf(' ', Math.min(end, text.length()) - 1);
+                if (space >= start) {
+                    end = space + 1;
+                }
+            }
+            start = end;
+        } while (start < length);
+        lineCounts[row] = lines;
+    }
+
+    /**
+     * Maps a char state to its glyph color.
+     */
+    private static Color colorForState(int state) {
+        return switch (state) {
+            case TypingPanel.CORRECT_STATE -> CORRECT_COLOR;
+            case TypingPanel.WRONG_STATE -> WRONG_COLOR;
+            default -> PENDING_COLOR;
+        };
+    }
+
+    /**
+     * Uses the desktop's text antialiasing settings, as Swing labels do.
+     */
+    private static void applyTextHints(Graphics2D g2) {
+        Object hints = Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
+        if (hints instanceof Map<?, ?> map) {
+            g2.addRenderingHints(map);
+        } else {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        }
+    }
+
+    /**
+     * Prefers room for three single-line rows.
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        FontMetrics fm = getFontMetrics(getFont());
+        return new Dimension(fm.charWidth('0') * 90, fm.getHeight() * ROW_COUNT + ROW_GAP * (ROW_COUNT - 1));
+    }
+}